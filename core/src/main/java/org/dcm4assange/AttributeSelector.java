@@ -0,0 +1,145 @@
+package org.dcm4assange;
+
+import java.util.Arrays;
+
+/**
+ * Compiled selection of elements, which decodes the values of all selected elements of a {@link DicomObject} in one
+ * pass. The selected tags are held in ascending unsigned order and matched against the - also sorted - tags of the
+ * {@code DicomObject} by a single merge walk, instead of one independent lookup per tag. Values are returned in
+ * caller-supplied arrays in the order the tags were passed to {@link #compile(int...)}, so one selector and one
+ * destination array can be reused for many {@code DicomObject}s.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public final class AttributeSelector {
+    private final int[] tags;
+    private final int[] positions;
+
+    private AttributeSelector(int[] tags, int[] positions) {
+        this.tags = tags;
+        this.positions = positions;
+    }
+
+    /**
+     * Compiles tags to a selector. The tags may be passed in any order.
+     *
+     * @param tags tags of the selected elements
+     * @return compiled selector
+     */
+    public static AttributeSelector compile(int... tags) {
+        long[] sorted = new long[tags.length];
+        for (int i = 0; i < tags.length; i++) {
+            sorted[i] = ((tags[i] & 0xffffffffL) << 32 | i) ^ Long.MIN_VALUE; // flip sign bit to sort unsigned
+        }
+        Arrays.sort(sorted);
+        int[] sortedTags = new int[tags.length];
+        int[] positions = new int[tags.length];
+        for (int j = 0; j < sorted.length; j++) {
+            sortedTags[j] = (int) ((sorted[j] ^ Long.MIN_VALUE) >>> 32);
+            positions[j] = (int) sorted[j];
+        }
+        return new AttributeSelector(sortedTags, positions);
+    }
+
+    /**
+     * Returns the number of selected tags, which is the minimal length of destination arrays.
+     *
+     * @return number of selected tags
+     */
+    public int size() {
+        return tags.length;
+    }
+
+    /**
+     * Returns the first string value of each selected element. Missing elements and elements without string value
+     * are returned as {@code null}.
+     *
+     * @param dcmobj data set or item
+     * @param dest   array of at least {@link #size()} elements or {@code null}
+     * @return {@code dest} or a new array, with the values at the position of their tags in {@link #compile(int...)}
+     */
+    public String[] selectStrings(DicomObject dcmobj, String[] dest) {
+        if (dest == null) dest = new String[tags.length];
+        int size = dcmobj.size();
+        int[] objTags = dcmobj.tags;
+        long[] headers = dcmobj.headers;
+        for (int j = 0, i = 0; j < tags.length; j++) {
+            i = seek(objTags, i, size, tags[j]);
+            dest[positions[j]] = i < size && objTags[i] == tags[j]
+                    ? VR.fromHeader(headers[i]).type.stringValue(dcmobj, i, 0, null)
+                    : null;
+        }
+        return dest;
+    }
+
+    /**
+     * Returns the first value of each selected element as {@code int}. Missing elements and elements without
+     * integer value are returned as {@code defVal}.
+     *
+     * @param dcmobj data set or item
+     * @param dest   array of at least {@link #size()} elements or {@code null}
+     * @param defVal value returned for missing elements
+     * @return {@code dest} or a new array, with the values at the position of their tags in {@link #compile(int...)}
+     */
+    public int[] selectInts(DicomObject dcmobj, int[] dest, int defVal) {
+        if (dest == null) dest = new int[tags.length];
+        int size = dcmobj.size();
+        int[] objTags = dcmobj.tags;
+        long[] headers = dcmobj.headers;
+        for (int j = 0, i = 0; j < tags.length; j++) {
+            i = seek(objTags, i, size, tags[j]);
+            dest[positions[j]] = i < size && objTags[i] == tags[j]
+                    ? VR.fromHeader(headers[i]).type.intValue(dcmobj, i, 0, defVal)
+                    : defVal;
+        }
+        return dest;
+    }
+
+    /**
+     * Returns the first value of each selected element as {@code double}. Missing elements and elements without
+     * floating point value are returned as {@code defVal}.
+     *
+     * @param dcmobj data set or item
+     * @param dest   array of at least {@link #size()} elements or {@code null}
+     * @param defVal value returned for missing elements
+     * @return {@code dest} or a new array, with the values at the position of their tags in {@link #compile(int...)}
+     */
+    public double[] selectDoubles(DicomObject dcmobj, double[] dest, double defVal) {
+        if (dest == null) dest = new double[tags.length];
+        int size = dcmobj.size();
+        int[] objTags = dcmobj.tags;
+        long[] headers = dcmobj.headers;
+        for (int j = 0, i = 0; j < tags.length; j++) {
+            i = seek(objTags, i, size, tags[j]);
+            dest[positions[j]] = i < size && objTags[i] == tags[j]
+                    ? VR.fromHeader(headers[i]).type.doubleValue(dcmobj, i, 0, defVal)
+                    : defVal;
+        }
+        return dest;
+    }
+
+    /**
+     * Returns the index of the first element at or after {@code low} with a tag not less than {@code tag}, or
+     * {@code size} if there is none. Gallops forward before the binary search, so a walk over few selected tags of
+     * a large data set does not visit every element.
+     */
+    private static int seek(int[] tags, int low, int size, int tag) {
+        int high = low;
+        int step = 1;
+        while (high < size && Integer.compareUnsigned(tags[high], tag) < 0) {
+            low = high + 1;
+            high += step;
+            step <<= 1;
+        }
+        high = Math.min(high, size);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Integer.compareUnsigned(tags[mid], tag) < 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+}
@@ -36,6 +36,46 @@ enum BinaryVR implements VRType {
             return OptionalDouble.empty();
         }
 
+        @Override
+        public long longValue(DicomObject dcmobj, int i, int index, long defVal) {
+            return defVal;
+        }
+
+        @Override
+        public float floatValue(DicomObject dcmobj, int i, int index, float defVal) {
+            return defVal;
+        }
+
+        @Override
+        public double doubleValue(DicomObject dcmobj, int i, int index, double defVal) {
+            return defVal;
+        }
+
+        @Override
+        public float[] floatValues(DicomObject dcmobj, int i) {
+            return ByteOrder.EMPTY_FLOATS;
+        }
+
+        @Override
+        public double[] doubleValues(DicomObject dcmobj, int i) {
+            return ByteOrder.EMPTY_DOUBLES;
+        }
+
+        @Override
+        public OptionalLong longValue(byte[] b, int index) {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public OptionalFloat floatValue(byte[] b, int index) {
+            return OptionalFloat.empty();
+        }
+
+        @Override
+        public OptionalDouble doubleValue(byte[] b, int index) {
+            return OptionalDouble.empty();
+        }
+
         @Override
         String stringAt(DicomInput input, long pos) {
             return TagUtils.toHexString(input.tagAt(pos));
@@ -392,8 +432,8 @@ enum BinaryVR implements VRType {
     public OptionalInt intValue(DicomObject dcmobj, int i, int index) {
         long header = dcmobj.headers[i];
         if ((int)(header >>> 62) == 0) {
-            if (dcmobj.values[i] instanceof byte[] b && b.length / bytes > index) {
-                return OptionalInt.of(bytesToInt(b, bytes * index));
+            if (dcmobj.values[i] instanceof byte[] b) {
+                return intValue(b, index);
             }
         } else if (dcmobj.header2valueLength(header) / bytes > index) {
             return OptionalInt.of(
@@ -406,8 +446,8 @@ enum BinaryVR implements VRType {
     public OptionalLong longValue(DicomObject dcmobj, int i, int index) {
         long header = dcmobj.headers[i];
         if ((int)(header >>> 62) == 0) {
-            if (dcmobj.values[i] instanceof byte[] b && b.length / bytes > index) {
-                return OptionalLong.of(bytesToLong(b, bytes * index));
+            if (dcmobj.values[i] instanceof byte[] b) {
+                return longValue(b, index);
             }
         } else if (dcmobj.header2valueLength(header) / bytes > index) {
             return OptionalLong.of(
@@ -420,8 +460,8 @@ enum BinaryVR implements VRType {
     public OptionalFloat floatValue(DicomObject dcmobj, int i, int index) {
         long header = dcmobj.headers[i];
         if ((int)(header >>> 62) == 0) {
-            if (dcmobj.values[i] instanceof byte[] b && b.length / bytes > index) {
-                return OptionalFloat.of(bytesToFloat(b, bytes * index));
+            if (dcmobj.values[i] instanceof byte[] b) {
+                return floatValue(b, index);
             }
         } else if (dcmobj.header2valueLength(header) / bytes > index) {
             return OptionalFloat.of(
@@ -434,8 +474,8 @@ enum BinaryVR implements VRType {
     public OptionalDouble doubleValue(DicomObject dcmobj, int i, int index) {
         long header = dcmobj.headers[i];
         if ((int)(header >>> 62) == 0) {
-            if (dcmobj.values[i] instanceof byte[] b && b.length / bytes > index) {
-                return OptionalDouble.of(bytesToDouble(b, bytes * index));
+            if (dcmobj.values[i] instanceof byte[] b) {
+                return doubleValue(b, index);
             }
         } else if (dcmobj.header2valueLength(header) / bytes > index) {
             return OptionalDouble.of(
@@ -444,6 +484,184 @@ enum BinaryVR implements VRType {
         return OptionalDouble.empty();
     }
 
+    @Override
+    public int intValue(DicomObject dcmobj, int i, int index, int defVal) {
+        long header = dcmobj.headers[i];
+        if ((int)(header >>> 62) == 0) {
+            if (dcmobj.values[i] instanceof byte[] b && b.length / bytes > index) {
+                return bytesToInt(b, bytes * index);
+            }
+        } else if (dcmobj.header2valueLength(header) / bytes > index) {
+            return intAt(dcmobj.dicomInput, DicomObject.header2valuePosition(header) + bytes * index);
+        }
+        return defVal;
+    }
+
+    @Override
+    public long longValue(DicomObject dcmobj, int i, int index, long defVal) {
+        long header = dcmobj.headers[i];
+        if ((int)(header >>> 62) == 0) {
+            if (dcmobj.values[i] instanceof byte[] b && b.length / bytes > index) {
+                return bytesToLong(b, bytes * index);
+            }
+        } else if (dcmobj.header2valueLength(header) / bytes > index) {
+            return longAt(dcmobj.dicomInput, DicomObject.header2valuePosition(header) + bytes * index);
+        }
+        return defVal;
+    }
+
+    @Override
+    public float floatValue(DicomObject dcmobj, int i, int index, float defVal) {
+        long header = dcmobj.headers[i];
+        if ((int)(header >>> 62) == 0) {
+            if (dcmobj.values[i] instanceof byte[] b && b.length / bytes > index) {
+                return bytesToFloat(b, bytes * index);
+            }
+        } else if (dcmobj.header2valueLength(header) / bytes > index) {
+            return floatAt(dcmobj.dicomInput, DicomObject.header2valuePosition(header) + bytes * index);
+        }
+        return defVal;
+    }
+
+    @Override
+    public double doubleValue(DicomObject dcmobj, int i, int index, double defVal) {
+        long header = dcmobj.headers[i];
+        if ((int)(header >>> 62) == 0) {
+            if (dcmobj.values[i] instanceof byte[] b && b.length / bytes > index) {
+                return bytesToDouble(b, bytes * index);
+            }
+        } else if (dcmobj.header2valueLength(header) / bytes > index) {
+            return doubleAt(dcmobj.dicomInput, DicomObject.header2valuePosition(header) + bytes * index);
+        }
+        return defVal;
+    }
+
+    @Override
+    public int intValues(DicomObject dcmobj, int i, int[] dest) {
+        return decodeValues(dcmobj, i, dest.length, (b, off, j) -> dest[j] = bytesToInt(b, off));
+    }
+
+    @Override
+    public short[] shortValues(DicomObject dcmobj, int i) {
+        short[] shorts = new short[valueCount(dcmobj, i)];
+        decodeValues(dcmobj, i, shorts.length, (b, off, j) -> shorts[j] = (short) bytesToInt(b, off));
+        return shorts;
+    }
+
+    @Override
+    public int[] intValues(DicomObject dcmobj, int i) {
+        int[] ints = new int[valueCount(dcmobj, i)];
+        decodeValues(dcmobj, i, ints.length, (b, off, j) -> ints[j] = bytesToInt(b, off));
+        return ints;
+    }
+
+    @Override
+    public float[] floatValues(DicomObject dcmobj, int i) {
+        float[] floats = new float[valueCount(dcmobj, i)];
+        decodeValues(dcmobj, i, floats.length, (b, off, j) -> floats[j] = bytesToFloat(b, off));
+        return floats;
+    }
+
+    @Override
+    public double[] doubleValues(DicomObject dcmobj, int i) {
+        double[] doubles = new double[valueCount(dcmobj, i)];
+        decodeValues(dcmobj, i, doubles.length, (b, off, j) -> doubles[j] = bytesToDouble(b, off));
+        return doubles;
+    }
+
+    private interface ValueDecoder {
+        void decode(byte[] b, int off, int index);
+    }
+
+    private int valueCount(DicomObject dcmobj, int i) {
+        long header = dcmobj.headers[i];
+        Object value = dcmobj.values[i];
+        if ((int)(header >>> 62) == 0) {
+            return value instanceof byte[] b ? b.length / bytes : 0;
+        }
+        return value == null ? Math.max(0, dcmobj.header2valueLength(header)) / bytes : 0;
+    }
+
+    /**
+     * Decodes up to {@code max} values of the element by {@code decoder} and returns the number of values. Values of
+     * parsed elements are decoded block by block in place from the memory cache; only values in Big Endian byte order
+     * are toggled one by one in a buffer of the value size.
+     */
+    private int decodeValues(DicomObject dcmobj, int i, int max, ValueDecoder decoder) {
+        int count = valueCount(dcmobj, i);
+        int n = Math.min(count, max);
+        if (n == 0) return count;
+        long header = dcmobj.headers[i];
+        if ((int)(header >>> 62) == 0) {
+            byte[] b = (byte[]) dcmobj.values[i];
+            for (int j = 0; j < n; j++) {
+                decoder.decode(b, bytes * j, j);
+            }
+            return count;
+        }
+        ValueDecoder decoder1 = decoder;
+        if (toggleEndian != null && dcmobj.dicomInput.encoding.byteOrder == ByteOrder.BIG_ENDIAN) {
+            byte[] buf = new byte[bytes];
+            decoder1 = (b, off, j) -> {
+                System.arraycopy(b, off, buf, 0, bytes);
+                toggleEndian.apply(buf, bytes);
+                decoder.decode(buf, 0, j);
+            };
+        }
+        ValueDecoder decoder2 = decoder1;
+        int[] index = {0};
+        dcmobj.dicomInput.cache().forEachChunk(DicomObject.header2valuePosition(header), n * bytes, bytes,
+                (b, off, len) -> {
+                    for (int end = off + len; off < end; off += bytes) {
+                        decoder2.decode(b, off, index[0]++);
+                    }
+                });
+        return count;
+    }
+
+    /**
+     * Returns the whole value of the element in Little Endian byte order, truncated to a multiple of the value size.
+     * Values of parsed elements are copied from the memory cache by one bulk copy, instead of reading each value by
+     * a separate access.
+     */
+    byte[] valueBytes(DicomObject dcmobj, int i) {
+        long header = dcmobj.headers[i];
+        Object value = dcmobj.values[i];
+        if ((int)(header >>> 62) == 0) {
+            return value instanceof byte[] b ? b : ByteOrder.EMPTY_BYTES;
+        }
+        int length = dcmobj.header2valueLength(header);
+        if (value != null || length < bytes) {
+            return ByteOrder.EMPTY_BYTES;
+        }
+        byte[] b = dcmobj.dicomInput.cache().bytesAt(
+                DicomObject.header2valuePosition(header), length - length % bytes);
+        if (toggleEndian != null && dcmobj.dicomInput.encoding.byteOrder == ByteOrder.BIG_ENDIAN) {
+            toggleEndian.apply(b, b.length);
+        }
+        return b;
+    }
+
+    @Override
+    public OptionalInt intValue(byte[] b, int index) {
+        return b.length / bytes > index ? OptionalInt.of(bytesToInt(b, bytes * index)) : OptionalInt.empty();
+    }
+
+    @Override
+    public OptionalLong longValue(byte[] b, int index) {
+        return b.length / bytes > index ? OptionalLong.of(bytesToLong(b, bytes * index)) : OptionalLong.empty();
+    }
+
+    @Override
+    public OptionalFloat floatValue(byte[] b, int index) {
+        return b.length / bytes > index ? OptionalFloat.of(bytesToFloat(b, bytes * index)) : OptionalFloat.empty();
+    }
+
+    @Override
+    public OptionalDouble doubleValue(byte[] b, int index) {
+        return b.length / bytes > index ? OptionalDouble.of(bytesToDouble(b, bytes * index)) : OptionalDouble.empty();
+    }
+
     @Override
     public Object valueOf(int[] vals) {
         if (vals.length == 0) {
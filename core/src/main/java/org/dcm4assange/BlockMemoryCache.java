@@ -0,0 +1,80 @@
+package org.dcm4assange;
+
+import java.util.Arrays;
+
+/**
+ * {@link MemoryCache} holding the read bytes in blocks of equal size, which tracks the segments skipped by
+ * {@link #skipFrom} to translate stream positions into positions in the blocks.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+abstract class BlockMemoryCache extends MemoryCache {
+    final int blockSize;
+    private final int blockSizeBits;
+    private final int blockMask;
+    private long[] skippedPos = {};
+    private long[] skippedTotal = {};
+    private int skippedCount;
+    private long skippedBase;
+
+    BlockMemoryCache(int minBlockSize) {
+        int z = Integer.numberOfLeadingZeros(minBlockSize - 1);
+        this.blockMask = -1 >>> z;
+        this.blockSize = blockMask + 1;
+        this.blockSizeBits = 32 - z;
+    }
+
+    final void addSkipped(long pos, long len) {
+        if (skippedCount == skippedPos.length) {
+            int newLength = Math.max(8, skippedCount << 1);
+            skippedPos = Arrays.copyOf(skippedPos, newLength);
+            skippedTotal = Arrays.copyOf(skippedTotal, newLength);
+        }
+        skippedPos[skippedCount] = pos;
+        skippedTotal[skippedCount] = (skippedCount > 0 ? skippedTotal[skippedCount - 1] : skippedBase) + len;
+        skippedCount++;
+    }
+
+    final void clearSkipped() {
+        skippedCount = 0;
+        skippedBase = 0L;
+    }
+
+    /**
+     * Drops the skipped segments before {@code pos}, keeping their total as base of the remaining ones, so the
+     * segments do not accumulate while the stream is read.
+     */
+    final void discardSkippedBefore(long pos) {
+        int n = 0;
+        while (n < skippedCount && skippedPos[n] < pos) n++;
+        if (n == 0) return;
+        skippedBase = skippedTotal[n - 1];
+        skippedCount -= n;
+        System.arraycopy(skippedPos, n, skippedPos, 0, skippedCount);
+        System.arraycopy(skippedTotal, n, skippedTotal, 0, skippedCount);
+    }
+
+    final long skippedBytes(long pos) {
+        int high = skippedCount - 1;
+        if (high < 0 || pos <= skippedPos[0]) return skippedBase;
+        if (pos > skippedPos[high]) return skippedTotal[high];
+        int low = 0;
+        while (high - low > 1) {
+            int mid = (low + high) >>> 1;
+            if (pos <= skippedPos[mid])
+                high = mid;
+            else
+                low = mid;
+        }
+        return skippedTotal[low];
+    }
+
+    final int blockIndex(long pos) {
+        return (int) (pos >>> blockSizeBits);
+    }
+
+    final int blockOffset(long pos) {
+        return (int) pos & blockMask;
+    }
+}
@@ -0,0 +1,58 @@
+package org.dcm4assange;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of byte arrays used as blocks by the memory cache of {@link DicomInputStream}, which may be shared by
+ * several threads. Blocks are returned to the pool by {@link DicomObject#release()}.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public final class BlockPool {
+    private final int blockSize;
+    private final long maxPooledBytes;
+    private final AtomicLong pooledBytes = new AtomicLong();
+    private final ConcurrentLinkedQueue<byte[]> blocks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a pool of blocks.
+     *
+     * @param minBlockSize   minimal size of pooled blocks, rounded up to the next power of 2
+     * @param maxPooledBytes maximal number of bytes kept in the pool
+     */
+    public BlockPool(int minBlockSize, long maxPooledBytes) {
+        this.blockSize = MemoryCache.blockSizeOf(minBlockSize);
+        this.maxPooledBytes = maxPooledBytes;
+    }
+
+    public int blockSize() {
+        return blockSize;
+    }
+
+    public long maxPooledBytes() {
+        return maxPooledBytes;
+    }
+
+    public long pooledBytes() {
+        return pooledBytes.get();
+    }
+
+    byte[] acquire() {
+        byte[] b = blocks.poll();
+        if (b == null) {
+            return new byte[blockSize];
+        }
+        pooledBytes.addAndGet(-blockSize);
+        return b;
+    }
+
+    void release(byte[] b) {
+        if (pooledBytes.addAndGet(blockSize) <= maxPooledBytes) {
+            blocks.offer(b);
+        } else {
+            pooledBytes.addAndGet(-blockSize);
+        }
+    }
+}
@@ -1,11 +1,34 @@
 package org.dcm4assange;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
 /**
  * @author Gunter Zeilinger (gunterze@protonmail.com)
  * @since Mar 2021
  */
 public enum ByteOrder {
     LITTLE_ENDIAN {
+        @Override
+        public short bytesToShort(byte[] b, int index) {
+            return (short) SHORT_LE.get(b, index);
+        }
+
+        @Override
+        public int bytesToInt(byte[] b, int index) {
+            return (int) INT_LE.get(b, index);
+        }
+
+        @Override
+        public int bytesToTag(byte[] b, int index) {
+            return ((short) SHORT_LE.get(b, index) << 16) | ((short) SHORT_LE.get(b, index + 2) & 0xffff);
+        }
+
+        @Override
+        public long bytesToLong(byte[] b, int index) {
+            return (long) LONG_LE.get(b, index);
+        }
+
         @Override
         public short bytesToShort(int b0, int b1) {
             return (short) ((b1 << 8) | b0) ;
@@ -56,6 +79,26 @@ public enum ByteOrder {
         }
     },
     BIG_ENDIAN {
+        @Override
+        public short bytesToShort(byte[] b, int index) {
+            return (short) SHORT_BE.get(b, index);
+        }
+
+        @Override
+        public int bytesToInt(byte[] b, int index) {
+            return (int) INT_BE.get(b, index);
+        }
+
+        @Override
+        public int bytesToTag(byte[] b, int index) {
+            return (int) INT_BE.get(b, index);
+        }
+
+        @Override
+        public long bytesToLong(byte[] b, int index) {
+            return (long) LONG_BE.get(b, index);
+        }
+
         @Override
         public short bytesToShort(int b0, int b1) {
             return (short) ((b0 << 8) | b1);
@@ -153,8 +196,23 @@ public enum ByteOrder {
 
     public abstract void longToBytes(long val, byte[] dest, int destPos);
 
+    private static final VarHandle SHORT_LE =
+            MethodHandles.byteArrayViewVarHandle(short[].class, java.nio.ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_LE =
+            MethodHandles.byteArrayViewVarHandle(int[].class, java.nio.ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_LE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, java.nio.ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle SHORT_BE =
+            MethodHandles.byteArrayViewVarHandle(short[].class, java.nio.ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_BE =
+            MethodHandles.byteArrayViewVarHandle(int[].class, java.nio.ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_BE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, java.nio.ByteOrder.BIG_ENDIAN);
+
     public static final byte[] EMPTY_BYTES = {};
     public static final short[] EMPTY_SHORTS = {};
     public static final int[] EMPTY_INTS = {};
     public static final long[] EMPTY_LONGS = {};
+    public static final float[] EMPTY_FLOATS = {};
+    public static final double[] EMPTY_DOUBLES = {};
 }
@@ -0,0 +1,172 @@
+package org.dcm4assange;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Parses the first value of DA, TM and DT elements directly from its encoded bytes into a primitive, without building
+ * a {@code String} or {@code java.time} objects. Accepts the same formats as the parsers of
+ * {@link org.dcm4assange.util.DateTimeUtils}, including the ACR-NEMA formats {@code YYYY.MM.DD} and
+ * {@code HH:MM:SS.FFFFFF}.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+enum DateTimeParser implements MemoryCache.ByteParser {
+    /** Parses {@code YYYY[.]MM[.]DD} to the epoch day. */
+    DA {
+        @Override
+        long parseValue(byte[] b, int from, int to) {
+            int pos = from + 4;
+            int year = digits(b, from, 4, to);
+            if (pos < to && b[pos] == '.') pos++;
+            int month = digits(b, pos, 2, to);
+            if ((pos += 2) < to && b[pos] == '.') pos++;
+            int day = digits(b, pos, 2, to);
+            long epochDay = pos + 2 == to ? epochDay(year, month, day) : INVALID;
+            return epochDay != INVALID ? epochDay : invalid(b, from, to);
+        }
+    },
+    /** Parses {@code HH[MM[SS[.F{1-6}]]]} to the nano of day. */
+    TM {
+        @Override
+        long parseValue(byte[] b, int from, int to) {
+            long nanoOfDay = nanoOfDay(b, from, to);
+            return nanoOfDay != INVALID ? nanoOfDay : invalid(b, from, to);
+        }
+    },
+    /**
+     * Parses {@code YYYY[MM[DD[HH[MM[SS[.F{1-6}]]]]]][&ZZXX]} to the epoch milli. Values without UTC offset suffix are
+     * parsed as UTC.
+     */
+    DT {
+        @Override
+        long parseValue(byte[] b, int from, int to) {
+            int end = to;
+            long offsetMillis = 0;
+            if (to - from >= 9 && (b[to - 5] == '+' || b[to - 5] == '-')) {
+                int hh = digits(b, to - 4, 2, to);
+                int mm = digits(b, to - 2, 2, to);
+                if (hh < 0 || hh > 14 || mm < 0 || mm > 59)
+                    return invalid(b, from, to);
+                offsetMillis = (hh * 60 + mm) * 60_000L;
+                if (b[to - 5] == '-') offsetMillis = -offsetMillis;
+                end -= 5;
+            }
+            long epochDay = epochDay(
+                    digits(b, from, 4, end),
+                    from + 4 < end ? digits(b, from + 4, 2, end) : 1,
+                    from + 6 < end ? digits(b, from + 6, 2, end) : 1);
+            long nanoOfDay = from + 8 < end ? nanoOfDay(b, from + 8, end) : 0;
+            return epochDay != INVALID && nanoOfDay != INVALID
+                    ? epochDay * MILLIS_PER_DAY + nanoOfDay / 1_000_000 - offsetMillis
+                    : invalid(b, from, to);
+        }
+    };
+
+    /** Returned by {@link #parse(byte[], int, int)} for empty values. */
+    static final long NO_VALUE = Long.MIN_VALUE;
+    static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final long INVALID = Long.MAX_VALUE;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int[] FRACTION_SCALE = { 0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000 };
+
+    /**
+     * Parses the first of the backslash separated values, with leading and trailing spaces removed.
+     *
+     * @return the parsed value or {@link #NO_VALUE}, if the value is empty
+     * @throws DateTimeParseException if the value cannot be parsed
+     */
+    @Override
+    public long parse(byte[] b, int off, int len) {
+        int end = off + len;
+        int to = off;
+        while (to < end && b[to] != '\\') to++;
+        int from = off;
+        while (from < to && (b[from] & 0xff) <= ' ') from++;
+        while (to > from && (b[to - 1] & 0xff) <= ' ') to--;
+        return from < to ? parseValue(b, from, to) : NO_VALUE;
+    }
+
+    long parse(String s) {
+        byte[] b = s.getBytes(StandardCharsets.ISO_8859_1);
+        return parse(b, 0, b.length);
+    }
+
+    abstract long parseValue(byte[] b, int from, int to);
+
+    /**
+     * Returns the value of {@code n} decimal digits at {@code pos}, or {@code -1} if there are less than {@code n}
+     * bytes before {@code to} or any of them is not a digit.
+     */
+    private static int digits(byte[] b, int pos, int n, int to) {
+        if (pos + n > to)
+            return -1;
+
+        int val = 0;
+        for (int end = pos + n; pos < end; pos++) {
+            int digit = b[pos] - '0';
+            if (digit < 0 || digit > 9)
+                return -1;
+            val = val * 10 + digit;
+        }
+        return val;
+    }
+
+    private static long epochDay(int year, int month, int day) {
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month))
+            return INVALID;
+
+        // as LocalDate#toEpochDay for non-negative years
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400
+                + (367 * month - 362) / 12 + day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) total--;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static long nanoOfDay(byte[] b, int from, int to) {
+        int pos = from;
+        int hh = digits(b, pos, 2, to);
+        int mm = 0;
+        int ss = 0;
+        int nanos = 0;
+        if ((pos += 2) < to) {
+            if (b[pos] == ':') pos++;
+            mm = digits(b, pos, 2, to);
+            if ((pos += 2) < to) {
+                if (b[pos] == ':') pos++;
+                ss = digits(b, pos, 2, to);
+                if ((pos += 2) < to) {
+                    int n = to - pos - 1;
+                    nanos = b[pos] == '.' && n < FRACTION_SCALE.length ? digits(b, pos + 1, n, to) : -1;
+                    if (nanos > 0) nanos *= FRACTION_SCALE[n];
+                }
+            }
+        }
+        if (hh < 0 || hh > 23 || mm < 0 || mm > 59 || ss < 0 || ss > 59 || nanos < 0)
+            return INVALID;
+
+        return ((hh * 60 + mm) * 60 + ss) * NANOS_PER_SECOND + nanos;
+    }
+
+    private static long invalid(byte[] b, int from, int to) {
+        String s = new String(b, from, to - from, StandardCharsets.ISO_8859_1);
+        throw new DateTimeParseException("Text '" + s + "' could not be parsed", s, 0);
+    }
+}
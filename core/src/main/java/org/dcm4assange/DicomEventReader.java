@@ -0,0 +1,263 @@
+package org.dcm4assange;
+
+import org.dcm4assange.util.StringUtils;
+import org.dcm4assange.util.TagUtils;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+
+/**
+ * Pull parser reporting the structure of a DICOM data set as sequence of events, without building a
+ * {@link DicomObject} tree. Values, which are not read by {@link #readValue()} or {@link #readString()}, are skipped,
+ * and the cached bytes of consumed elements are discarded, so arbitrary large streams are processed in constant
+ * memory.
+ * <p>
+ * The Value Representation of private elements in data sets encoded in Implicit VR Little Endian is reported as
+ * {@link VR#UN}, because the Private Creator of the element is not tracked.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public class DicomEventReader implements Closeable {
+    public enum Event {
+        ELEMENT,
+        SEQUENCE_START,
+        SEQUENCE_END,
+        ITEM_START,
+        ITEM_END,
+        FRAGMENTS_START,
+        FRAGMENT,
+        FRAGMENTS_END,
+        END_DATA_SET
+    }
+
+    private static final int MIN_SKIP_LENGTH = 8192;
+    private final DicomInputStream dis;
+    private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+    private SpecificCharacterSet cs = SpecificCharacterSet.getDefaultCharacterSet();
+    private Event event;
+    private long header;
+    private int tag;
+    private VR vr;
+    private int valueLength;
+    private boolean valuePending;
+    private int depth;
+
+    private record Frame(Event type, long endPos, MemoryCache.DicomInput prevInput, SpecificCharacterSet prevCS) {}
+
+    public DicomEventReader(DicomInputStream dis) {
+        this.dis = dis;
+    }
+
+    public boolean hasNext() {
+        return event != Event.END_DATA_SET;
+    }
+
+    /**
+     * Advances to the next event. Skips the value of the current element or fragment, if it was not read.
+     *
+     * @return the next event
+     * @throws IOException            if an I/O error occurs or the stream is not a valid DICOM stream
+     * @throws NoSuchElementException if {@link Event#END_DATA_SET} was already returned
+     */
+    public Event nextEvent() throws IOException {
+        if (event == Event.END_DATA_SET)
+            throw new NoSuchElementException();
+
+        if (event == null) {
+            dis.initDataSet();
+        }
+        skipValue();
+        long pos0 = dis.streamPosition();
+        dis.discardCacheBefore(pos0);
+        Frame frame = frames.peek();
+        if (frame != null && frame.endPos != -1 && pos0 >= frame.endPos) {
+            return end(frame);
+        }
+        if (frame == null && dis.fillCache(pos0 + 1) == pos0) {
+            return event = Event.END_DATA_SET;
+        }
+        header = dis.readHeader();
+        tag = dis.header2tag(header);
+        vr = VR.fromHeader(header);
+        valueLength = dis.header2valueLength(header);
+        if (frame != null && frame.type != Event.ITEM_START) {
+            if (tag == Tag.SequenceDelimitationItem) {
+                return end(frame);
+            }
+            if (tag != Tag.Item) {
+                throw new DicomParseException(
+                        String.format("Unexpected %s in %s", TagUtils.toString(tag), frame.type));
+            }
+            if (frame.type == Event.FRAGMENTS_START) {
+                valuePending = true;
+                return event = Event.FRAGMENT;
+            }
+            return start(Event.ITEM_START, null);
+        }
+        if (tag == Tag.ItemDelimitationItem && frame != null) {
+            return end(frame);
+        }
+        if (vr == VR.SQ) {
+            return start(Event.SEQUENCE_START, valueLength != 0 ? dis.enterSequence() : null);
+        }
+        if (valueLength == -1) {
+            return start(Event.FRAGMENTS_START, null);
+        }
+        valuePending = true;
+        event = Event.ELEMENT;
+        if (tag == Tag.SpecificCharacterSet) {
+            long pos = dis.streamPosition();
+            cs = SpecificCharacterSet.valueOf(
+                    StringUtils.split(SpecificCharacterSet.ASCII.decode(readValue(), 0, valueLength), '\\'));
+            dis.seek(pos);
+            valuePending = true;
+        }
+        return event;
+    }
+
+    public Event event() {
+        return event;
+    }
+
+    public int tag() {
+        return tag;
+    }
+
+    public VR vr() {
+        return vr;
+    }
+
+    public int valueLength() {
+        return valueLength;
+    }
+
+    /**
+     * Returns the stream position of the header of the current element, item or fragment.
+     *
+     * @return stream position of the header
+     */
+    public long position() {
+        return header & DicomInputStream.POSITION_HEADER_MASK;
+    }
+
+    /**
+     * Returns the number of sequences or encapsulated Pixel Data elements enclosing the current event: 0 for elements
+     * of the data set, 1 for items of their sequences, the elements of these items and for fragments, etc.
+     *
+     * @return nesting level
+     */
+    public int level() {
+        return event == Event.SEQUENCE_START || event == Event.FRAGMENTS_START ? depth - 1 : depth;
+    }
+
+    public DicomEncoding encoding() {
+        return dis.encoding();
+    }
+
+    public DicomObject fileMetaInformation() {
+        return dis.fileMetaInformation();
+    }
+
+    public SpecificCharacterSet specificCharacterSet() {
+        return cs;
+    }
+
+    /**
+     * Reads the value of the current element or fragment.
+     *
+     * @return the value bytes
+     * @throws IOException           if an I/O error occurs
+     * @throws IllegalStateException if the current event is not an {@link Event#ELEMENT} or {@link Event#FRAGMENT},
+     *                               or its value was already read
+     */
+    public byte[] readValue() throws IOException {
+        if (!valuePending)
+            throw new IllegalStateException("No value to read");
+
+        valuePending = false;
+        byte[] b = dis.readNBytes(valueLength);
+        if (b.length < valueLength)
+            throw new EOFException();
+
+        return b;
+    }
+
+    /**
+     * Reads the value of the current element, decoded with the Specific Character Set of the containing data set or
+     * item, with trailing padding removed.
+     *
+     * @return the decoded value
+     * @throws IOException           if an I/O error occurs
+     * @throws IllegalStateException if the current event is not an {@link Event#ELEMENT}, or its value was already
+     *                               read
+     */
+    public String readString() throws IOException {
+        byte[] b = readValue();
+        return StringUtils.trim(cs.decode(b, 0, b.length), StringUtils.Trim.TRAILING);
+    }
+
+    /**
+     * Writes the value of the current element or fragment to the output stream. Large values are copied directly from
+     * the underlying input stream without caching.
+     *
+     * @param out the output stream
+     * @throws IOException           if an I/O error occurs
+     * @throws IllegalStateException if the current event is not an {@link Event#ELEMENT} or {@link Event#FRAGMENT},
+     *                               or its value was already read
+     */
+    public void transferValueTo(OutputStream out) throws IOException {
+        if (!valuePending)
+            throw new IllegalStateException("No value to transfer");
+
+        if ((valueLength & 0xffffffffL) < MIN_SKIP_LENGTH) {
+            out.write(readValue());
+        } else {
+            transferValue(out);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        dis.close();
+    }
+
+    private void skipValue() throws IOException {
+        if (valuePending) {
+            transferValue(null);
+        }
+    }
+
+    private void transferValue(OutputStream out) throws IOException {
+        valuePending = false;
+        long pos = dis.streamPosition();
+        long uvalueLength = valueLength & 0xffffffffL;
+        if (uvalueLength >= MIN_SKIP_LENGTH) {
+            dis.skip(pos, uvalueLength, out);
+        }
+        dis.seek(pos + uvalueLength);
+    }
+
+    private Event start(Event type, MemoryCache.DicomInput prevInput) {
+        long endPos = valueLength == -1 ? -1 : dis.streamPosition() + (valueLength & 0xffffffffL);
+        frames.push(new Frame(type, endPos, prevInput, cs));
+        if (type != Event.ITEM_START) depth++;
+        return event = type;
+    }
+
+    private Event end(Frame frame) {
+        frames.pop();
+        if (frame.type != Event.ITEM_START) depth--;
+        dis.exitSequence(frame.prevInput);
+        cs = frame.prevCS;
+        return event = switch (frame.type) {
+            case SEQUENCE_START -> Event.SEQUENCE_END;
+            case ITEM_START -> Event.ITEM_END;
+            default -> Event.FRAGMENTS_END;
+        };
+    }
+}
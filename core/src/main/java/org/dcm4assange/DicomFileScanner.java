@@ -0,0 +1,202 @@
+package org.dcm4assange;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Walks file trees and parses the contained DICOM files in parallel, passing the parsed data sets to a
+ * {@link Handler} in completion order.
+ * <p>
+ * By default, parsing stops before the Pixel Data and other bulk data is not cached, but referenced by Bulk Data URIs.
+ * The memory budget limits the total size of files parsed concurrently, which is an upper bound of the memory held by
+ * the caches of their parsed data sets, as long as they are not deflated. Memory is accounted from the start of
+ * parsing of a file until its handler returns, so a handler which keeps the passed data set must account its memory
+ * itself.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public class DicomFileScanner {
+    static final long DEFAULT_MEMORY_BUDGET = 256L * 1024 * 1024;
+
+    @FunctionalInterface
+    public interface Handler {
+        void accept(Path path, DicomObject fmi, DicomObject dataSet) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface ErrorHandler {
+        void accept(Path path, Exception e);
+    }
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private long memoryBudget = DEFAULT_MEMORY_BUDGET;
+    private Consumer<DicomInputStream> configurer = dis -> dis.withoutBulkData().stopBefore(Tag.PixelData);
+    private ErrorHandler errorHandler;
+
+    public DicomFileScanner withParallelism(int parallelism) {
+        if (parallelism <= 0)
+            throw new IllegalArgumentException("parallelism: " + parallelism);
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets the maximal total size of files parsed concurrently. A single file exceeding the budget is only parsed
+     * while no other file is parsed.
+     *
+     * @param memoryBudget maximal total size of concurrently parsed files in bytes
+     * @return this scanner
+     */
+    public DicomFileScanner withMemoryBudget(long memoryBudget) {
+        if (memoryBudget <= 0)
+            throw new IllegalArgumentException("memoryBudget: " + memoryBudget);
+        this.memoryBudget = memoryBudget;
+        return this;
+    }
+
+    /**
+     * Sets the configuration applied to the {@link DicomInputStream} of each file before parsing. Replaces the default
+     * configuration {@code dis -> dis.withoutBulkData().stopBefore(Tag.PixelData)}.
+     *
+     * @param configurer configuration applied to each {@link DicomInputStream}
+     * @return this scanner
+     */
+    public DicomFileScanner withDicomInputStreamConfigurer(Consumer<DicomInputStream> configurer) {
+        this.configurer = Objects.requireNonNull(configurer);
+        return this;
+    }
+
+    /**
+     * Sets the handler of files which could not be parsed or whose {@link Handler} failed, including by throwing a
+     * {@code RuntimeException}. If no error handler is set, {@link #scan} throws the first encountered exception -
+     * wrapped in an {@code IOException}, if necessary - after all files are processed, with the further ones added as
+     * suppressed.
+     *
+     * @param errorHandler handler of files which could not be parsed
+     * @return this scanner
+     */
+    public DicomFileScanner withErrorHandler(ErrorHandler errorHandler) {
+        this.errorHandler = Objects.requireNonNull(errorHandler);
+        return this;
+    }
+
+    /**
+     * Parses all regular files in the specified file trees and passes their data sets to the handler. Invocations of
+     * the handler may be concurrent. Returns after all files are processed.
+     *
+     * @param paths   files or directories to scan
+     * @param handler handler of the parsed data sets
+     * @return number of successfully processed files
+     * @throws IOException if walking a file tree fails or - without error handler - processing of a file failed
+     */
+    public int scan(Collection<Path> paths, Handler handler) throws IOException {
+        Objects.requireNonNull(handler);
+        int budgetKiB = (int) Math.min(Integer.MAX_VALUE, (memoryBudget + 1023) >>> 10);
+        Scan scan = new Scan(handler, new Semaphore(budgetKiB), budgetKiB);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (Path path : paths) {
+                try (Stream<Path> walk = Files.walk(path)) {
+                    Iterator<Path> iter = walk.filter(Files::isRegularFile).iterator();
+                    while (iter.hasNext()) {
+                        scan.submit(executor, iter.next());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } finally {
+            executor.shutdown();
+            if (!Thread.currentThread().isInterrupted()) {
+                awaitTermination(executor);
+            }
+        }
+        if (scan.exception != null)
+            throw scan.exception;
+        return scan.processed;
+    }
+
+    private static void awaitTermination(ExecutorService executor) throws InterruptedIOException {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+            throw new InterruptedIOException();
+        }
+    }
+
+    private class Scan {
+        final Handler handler;
+        final Semaphore budget;
+        final int budgetKiB;
+        int processed;
+        IOException exception;
+
+        Scan(Handler handler, Semaphore budget, int budgetKiB) {
+            this.handler = handler;
+            this.budget = budget;
+            this.budgetKiB = budgetKiB;
+        }
+
+        void submit(ExecutorService executor, Path path) throws InterruptedException {
+            int permits;
+            try {
+                permits = (int) Math.max(1, Math.min(budgetKiB, (Files.size(path) + 1023) >>> 10));
+            } catch (IOException e) {
+                onError(path, e);
+                return;
+            }
+            budget.acquire(permits);
+            executor.execute(() -> {
+                try {
+                    parse(path);
+                } finally {
+                    budget.release(permits);
+                }
+            });
+        }
+
+        void parse(Path path) {
+            try (DicomInputStream dis = new DicomInputStream(path)) {
+                configurer.accept(dis);
+                DicomObject dataSet = dis.readDataSet();
+                handler.accept(path, dis.fileMetaInformation(), dataSet);
+                onSuccess();
+            } catch (IOException | RuntimeException e) {
+                onError(path, e);
+            }
+        }
+
+        synchronized void onSuccess() {
+            processed++;
+        }
+
+        void onError(Path path, Exception e) {
+            if (errorHandler != null) {
+                errorHandler.accept(path, e);
+                return;
+            }
+            synchronized (this) {
+                if (exception == null)
+                    exception = e instanceof IOException ioe ? ioe : new IOException("Failed to process " + path, e);
+                else
+                    exception.addSuppressed(e);
+            }
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package org.dcm4assange;
 
 import org.dcm4assange.MemoryCache.DicomInput;
+import org.dcm4assange.util.IORuntimeException;
 import org.dcm4assange.util.TagUtils;
 
 import java.io.*;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -57,7 +59,10 @@ public class DicomInputStream extends InputStream {
     private PreambleHandler preambleHandler = x -> {};
     private DicomElementPredicate bulkDataPredicate = (dcmObj, tag, vr, valueLength) -> false;
     private Predicate<DicomObject.Sequence> parseItemsEagerPredicate = DicomInputStream::isWaveformSequence;
+    private int parseItemsInParallelMinSize = Integer.MAX_VALUE;
     private DicomObject fmi;
+    private TagFilter tagFilter;
+    private StringValueCache stringValueCache;
 
     public DicomInputStream(Path path) throws IOException {
         this(path, MemoryCache.DEFAULT_BLOCK_SIZE);
@@ -68,18 +73,62 @@ public class DicomInputStream extends InputStream {
         this.path = path;
     }
 
+    /**
+     * Creates a {@code DicomInputStream} reading from the specified file. If {@code memoryMapped} is {@code true},
+     * the file is mapped into memory and values of parsed elements are accessed directly from the mapping, instead
+     * of being copied into heap allocated blocks.
+     *
+     * @param path         the path to the file
+     * @param memoryMapped if the file shall be mapped into memory
+     * @throws IOException if an I/O error occurs
+     */
+    public DicomInputStream(Path path, boolean memoryMapped) throws IOException {
+        if (!memoryMapped) {
+            this.in = Files.newInputStream(path);
+            this.cache = new HeapMemoryCache(MemoryCache.DEFAULT_BLOCK_SIZE);
+        } else {
+            try (FileChannel channel = FileChannel.open(path)) {
+                this.cache = new MappedMemoryCache(channel);
+            }
+            this.in = InputStream.nullInputStream();
+        }
+        this.path = path;
+    }
+
     public DicomInputStream(InputStream in) {
         this(in, MemoryCache.DEFAULT_BLOCK_SIZE);
     }
 
     public DicomInputStream(InputStream in, int minBlockSize) {
         this.in = Objects.requireNonNull(in);
-        this.cache = new MemoryCache(minBlockSize);
+        this.cache = new HeapMemoryCache(minBlockSize);
+    }
+
+    public DicomInputStream(Path path, BlockPool pool) throws IOException {
+        this(Files.newInputStream(path), pool);
+        this.path = path;
+    }
+
+    public DicomInputStream(Path path, DirectBlockPool pool) throws IOException {
+        this(Files.newInputStream(path), pool);
+        this.path = path;
+    }
+
+    public DicomInputStream(InputStream in, BlockPool pool) {
+        this.in = Objects.requireNonNull(in);
+        this.cache = new HeapMemoryCache(pool);
     }
 
-    DicomInputStream(DicomInput input) {
+    public DicomInputStream(InputStream in, DirectBlockPool pool) {
+        this.in = Objects.requireNonNull(in);
+        this.cache = new DirectMemoryCache(pool);
+    }
+
+    DicomInputStream(DicomInput input, StringValueCache stringValueCache, int parseItemsInParallelMinSize) {
         this.input = input;
         this.cache = input.cache();
+        this.stringValueCache = stringValueCache;
+        this.parseItemsInParallelMinSize = parseItemsInParallelMinSize;
     }
 
     public static boolean bulkDataPredicate(DicomObject dcmobj, int tag, VR vr, int valueLength) {
@@ -113,13 +162,24 @@ public class DicomInputStream extends InputStream {
     }
 
     public DicomInputStream withEncoding(DicomEncoding encoding) throws IOException {
-        input = cache.dicomInput(encoding);
+        input = dicomInput(encoding);
         if (encoding.deflated) {
             in = cache.inflate(in, pos);
         }
         return this;
     }
 
+    private MemoryCache.DicomInput dicomInput(DicomEncoding encoding) {
+        return cache.dicomInput(encoding);
+    }
+
+    private DicomObject newDicomObject(long pos, int length, DicomObject.Sequence seq, int size) {
+        DicomObject dcmObj = new DicomObject(input, pos, length, seq, size);
+        dcmObj.stringValueCache = stringValueCache;
+        dcmObj.parseItemsInParallelMinSize = parseItemsInParallelMinSize;
+        return dcmObj;
+    }
+
     public DicomInputStream withPreambleHandler(PreambleHandler handler) {
         this.preambleHandler = Objects.requireNonNull(handler);
         return this;
@@ -144,6 +204,62 @@ public class DicomInputStream extends InputStream {
         return this;
     }
 
+    /**
+     * Stop parsing the data set after all elements with the specified tags were read. Parsing stops after the element
+     * with the greatest of the specified tags, or before the first element with a greater tag, if the data set does
+     * not contain that element.
+     *
+     * @param tags tags of elements to read
+     * @return this {@code DicomInputStream}
+     */
+    public DicomInputStream stopAfterAll(int... tags) {
+        if (tags.length == 0)
+            throw new IllegalArgumentException("no tags");
+        int maxTag = tags[0];
+        for (int tag : tags) {
+            if (Integer.compareUnsigned(tag, maxTag) > 0) maxTag = tag;
+        }
+        int lastTag = maxTag;
+        DicomElementHandler onElement1 = this.onElement;
+        this.onElement = (dis, dcmobj, header) -> {
+            if (dcmobj.isItem()) return onElement1.apply(dis, dcmobj, header);
+            int cmp = Integer.compareUnsigned(header2tag(header), lastTag);
+            return cmp <= 0 && onElement1.apply(dis, dcmobj, header) && cmp < 0;
+        };
+        return this;
+    }
+
+    /**
+     * Only cache elements with the specified tags of the data set. Values of other elements are skipped without
+     * caching them. Parsing stops after the element with the greatest of the specified tags, or at the first element
+     * with a greater tag. Specific Character Set (0008,0005) is always cached.
+     *
+     * @param tags tags of elements to cache
+     * @return this {@code DicomInputStream}
+     */
+    public DicomInputStream withTagFilter(int... tags) {
+        int[][] tagPaths = new int[tags.length][];
+        for (int i = 0; i < tags.length; i++) {
+            tagPaths[i] = new int[]{ tags[i] };
+        }
+        return withTagPathFilter(tagPaths);
+    }
+
+    /**
+     * Only cache elements selected by the specified tag paths. The last tag of a path selects an element or a whole
+     * sequence; preceding tags select the sequences containing it, whose items only contain the selected elements.
+     * Values of other elements are skipped without caching them. Parsing stops after the element of the data set with
+     * the greatest first tag of all paths, or at the first element with a greater tag. Specific Character Set
+     * (0008,0005) is always cached.
+     *
+     * @param tagPaths tag paths of elements to cache
+     * @return this {@code DicomInputStream}
+     */
+    public DicomInputStream withTagPathFilter(int[]... tagPaths) {
+        this.tagFilter = TagFilter.compile(tagPaths);
+        return this;
+    }
+
     public DicomInputStream withoutBulkData() {
         return withoutBulkData(DicomInputStream::bulkDataPredicate);
     }
@@ -183,6 +299,36 @@ public class DicomInputStream extends InputStream {
         return this;
     }
 
+    /**
+     * Parses the items of sequences with at least the specified number of items in parallel, as soon as the end of the
+     * sequence is reached, instead of parsing each item on first access. This also applies to sequences nested in
+     * items, as soon as the containing item is parsed. Items of smaller sequences are still parsed on first access.
+     *
+     * @param minSize minimal number of items of sequences whose items are parsed in parallel
+     * @return this {@code DicomInputStream}
+     * @see DicomObject.Sequence#parseItemsInParallel()
+     */
+    public DicomInputStream withParseItemsInParallel(int minSize) {
+        if (minSize <= 0)
+            throw new IllegalArgumentException("minSize: " + minSize);
+        this.parseItemsInParallelMinSize = minSize;
+        return this;
+    }
+
+    /**
+     * Shares the values of Unique Identifier (UI), Code String (CS) and Application Entity (AE) elements with equal
+     * encoded bytes between parsed data sets, by looking up the decoded values in the specified cache on first access.
+     * The bytes are looked up in place, so no {@code String} is built on a hit. The cache may be shared by several
+     * {@code DicomInputStream}s and threads.
+     *
+     * @param stringValueCache cache of decoded values
+     * @return this {@code DicomInputStream}
+     */
+    public DicomInputStream withStringValueCache(StringValueCache stringValueCache) {
+        this.stringValueCache = Objects.requireNonNull(stringValueCache);
+        return this;
+    }
+
     public long streamPosition() {
         return pos;
     }
@@ -235,17 +381,15 @@ public class DicomInputStream extends InputStream {
         if (pos != 0)
             throw new IllegalStateException("Stream position: " + pos);
 
-        input = cache.dicomInput(DicomEncoding.IVR_LE);
-        DicomObject dcmObj = new DicomObject(input, pos, -1, null, 0);
+        input = dicomInput(DicomEncoding.IVR_LE);
+        DicomObject dcmObj = newDicomObject(pos, -1, null, 0);
         parse(dcmObj);
         return dcmObj;
     }
 
     public DicomObject readDataSet() throws IOException {
-        if (input == null) {
-            guessEncoding();
-        }
-        DicomObject dcmObj = new DicomObject(input, pos, -1, null, 0);
+        initDataSet();
+        DicomObject dcmObj = newDicomObject(pos, -1, null, 0);
         parse(dcmObj);
         return dcmObj;
     }
@@ -259,20 +403,19 @@ public class DicomInputStream extends InputStream {
             throw new IllegalStateException("Stream position: " + pos);
 
         long read = cache.fillFrom(in, 144);
-        byte[] b = cache.block(0);
         if (read != 144
-                || b[128] != 'D'
-                || b[129] != 'I'
-                || b[130] != 'C'
-                || b[131] != 'M'
-                || b[132] != 2
-                || b[133] != 0)
+                || cache.byteAt(128) != 'D'
+                || cache.byteAt(129) != 'I'
+                || cache.byteAt(130) != 'C'
+                || cache.byteAt(131) != 'M'
+                || cache.byteAt(132) != 2
+                || cache.byteAt(133) != 0)
             return null;
 
         preambleHandler.accept(this);
         pos = 132;
-        input = cache.dicomInput(DicomEncoding.EVR_LE);
-        DicomObject fmi = new DicomObject(input, 132, -1, null, 0);
+        input = dicomInput(DicomEncoding.EVR_LE);
+        DicomObject fmi = newDicomObject(132, -1, null, 0);
         long header  = parseHeader(fmi);
         VR vr = VR.fromHeader(header);
         int tag = header2tag(header);
@@ -304,7 +447,7 @@ public class DicomInputStream extends InputStream {
         if ((header & BULKDATA_HEADER_BIT) != 0) { // test for mark for serialized Bulkdata URI
             byte[] b = new byte[vallen];
             read(b);
-            dcmObj.add(header,
+            dcmObj.add(tag, header,
                     new String(b, 0, b[vallen - 1] <= ' ' ? vallen - 1 : vallen, StandardCharsets.UTF_8));
             return true;
         }
@@ -312,8 +455,16 @@ public class DicomInputStream extends InputStream {
         if (vr != null) {
             if (vr == VR.SQ) {
                 DicomObject.Sequence dcmseq = dcmObj.newSequence(tag);
-                dcmObj.add(header, dcmseq);
-                return parseItems(dcmseq, vallen);
+                dcmObj.add(tag, header, dcmseq);
+                if (!parseItems(dcmseq, vallen)) return false;
+                if (dcmseq.size() >= parseItemsInParallelMinSize) {
+                    try {
+                        dcmseq.parseItemsInParallel();
+                    } catch (IORuntimeException e) {
+                        throw (IOException) e.getCause();
+                    }
+                }
+                return true;
             }
             boolean bulkData = bulkDataPredicate.test(dcmObj, tag, vr, vallen);
             if (bulkData) {
@@ -321,9 +472,9 @@ public class DicomInputStream extends InputStream {
                     if (bulkDataOutputStream == null) {
                         bulkDataOutputStream = Files.newOutputStream(bulkDataSpoolPath);
                     }
-                    dcmObj.add(header, bulkDataURI(bulkDataSpoolPath, bulkDataPos, vallen));
+                    dcmObj.add(tag, header, bulkDataURI(bulkDataSpoolPath, bulkDataPos, vallen));
                 } else if (path != null) {
-                    dcmObj.add(header, bulkDataURI(path, pos, vallen));
+                    dcmObj.add(tag, header, bulkDataURI(path, pos, vallen));
                 }
                 if (vallen == -1) {
                     return skipFragments(dcmObj);
@@ -334,7 +485,7 @@ public class DicomInputStream extends InputStream {
                 DicomObject.Fragments frags = dcmObj.newFragments(tag, header);
                 return parseFragments(frags);
             } else {
-                dcmObj.add(header, null);
+                dcmObj.add(tag, header, null);
             }
         }
         this.pos += unsignedValueLength;
@@ -356,6 +507,39 @@ public class DicomInputStream extends InputStream {
         return true;
     }
 
+    private void skipValue(long header) throws IOException {
+        int vallen = input.header2valueLength(header);
+        if (vallen != -1) {
+            long uvallen = vallen & 0xffffffffL;
+            skip(pos, uvallen, null);
+            this.pos += uvallen;
+            return;
+        }
+        MemoryCache.DicomInput prevInput = enterSequence();
+        try {
+            for (;;) {
+                long itemheader = parseHeader(null);
+                int itemtag = header2tag(itemheader);
+                if (itemtag == Tag.SequenceDelimitationItem) break;
+                if (input.header2valueLength(itemheader) != -1) {
+                    skipValue(itemheader);
+                } else {
+                    for (;;) {
+                        long elmheader = parseHeader(null);
+                        if (header2tag(elmheader) == Tag.ItemDelimitationItem) break;
+                        skipValue(elmheader);
+                    }
+                }
+            }
+        } finally {
+            exitSequence(prevInput);
+        }
+    }
+
+    private static boolean isDelimitation(int tag) {
+        return tag == Tag.ItemDelimitationItem || tag == Tag.SequenceDelimitationItem;
+    }
+
     private static String bulkDataURI(Path path, long offset, int length) {
         StringBuilder sb = new StringBuilder(path.toUri().toString())
                 .append("#offset=").append(offset);
@@ -370,8 +554,8 @@ public class DicomInputStream extends InputStream {
             throws IOException {
         int itemlen = input.header2valueLength(header);
         if (header2tag(header) == Tag.Item) {
-            boolean parseItems = parseItemsEagerPredicate.test(dcmseq);
-            DicomObject dcmObj = new DicomObject(input, pos, itemlen, dcmseq, parseItems ? 0 : -1);
+            boolean parseItems = tagFilter != null || parseItemsEagerPredicate.test(dcmseq);
+            DicomObject dcmObj = newDicomObject(pos, itemlen, dcmseq, parseItems ? 0 : -1);
             dcmseq.add(dcmObj);
             if (parseItems) {
                 if (!parse(dcmObj)) return false;
@@ -392,13 +576,7 @@ public class DicomInputStream extends InputStream {
                 int tag = header2tag(header);
                 int valueLength = input.header2valueLength(header);
                 if (valueLength == -1) {
-                    MemoryCache.DicomInput prevInput = null;
-                    if (input.encoding.explicitVR
-                            && cache.vrcode(pos - 8) == VR.UN.code
-                            && probeSQImplicitVR(pos)) {
-                        prevInput = input;
-                        input = cache.dicomInput(DicomEncoding.IVR_LE);
-                    }
+                    MemoryCache.DicomInput prevInput = enterSequence();
                     try {
                         for (;;) {
                             long itemheader = parseHeader(null);
@@ -407,9 +585,7 @@ public class DicomInputStream extends InputStream {
                             if (itemtag == Tag.SequenceDelimitationItem) break;
                         }
                     } finally {
-                        if (prevInput != null) {
-                            input = prevInput;
-                        }
+                        exitSequence(prevInput);
                     }
                 } else {
                     this.pos += valueLength & 0xffffffffL;
@@ -435,7 +611,7 @@ public class DicomInputStream extends InputStream {
         if (readFileMetaInformation() == null) {
             DicomEncoding encoding = !probeExplicitVR(4) ? DicomEncoding.IVR_LE
                     : (cache.byteAt(1) == 0 ? DicomEncoding.EVR_LE : DicomEncoding.EVR_BE);
-            input = cache.dicomInput(encoding);
+            input = dicomInput(encoding);
             int valueLength = !encoding.explicitVR ? input.intAt(pos + 4)
                     : VR.of(cache.vrcode(pos + 4)).evr8 ? input.ushortAt(pos + 6)
                     : input.intAt(pos + 8);
@@ -473,7 +649,7 @@ public class DicomInputStream extends InputStream {
         if (vr.evr8) {
             return EVR8_HEADER_BIT | vr.toHeader() | pos0;
         }
-        if (pos0 + 12 > cache.limit()) {
+        if (cache.fillFrom(in, pos0 + 12) < pos0 + 12) {
             throw new EOFException();
         }
         pos += 4;
@@ -515,10 +691,27 @@ public class DicomInputStream extends InputStream {
             }
             int tag = input.tagAt(pos0);
             int vallen = input.header2valueLength(header);
+            TagFilter filter = tagFilter;
+            int index = -1;
+            if (filter != null && (tag >>> 16) != 0x0002 && !isDelimitation(tag)) {
+                if ((index = filter.indexOf(tag)) < 0) {
+                    if (!dcmObj.isItem() && filter.isBeyond(tag)) return false;
+                    skipValue(header);
+                    continue;
+                }
+            }
             if (tag == Tag.SpecificCharacterSet) {
                 cache.fillFrom(in, pos + vallen);
             }
-            if (!onElement.apply(this, dcmObj, header)) return false;
+            if (index >= 0) {
+                tagFilter = filter.nested(index);
+            }
+            try {
+                if (!onElement.apply(this, dcmObj, header)) return false;
+            } finally {
+                tagFilter = filter;
+            }
+            if (index >= 0 && !dcmObj.isItem() && filter.isLast(index)) return false;
             if (tag == Tag.ItemDelimitationItem) {
                 dcmObj.length = (int) (pos0 - dcmObj.position);
                 break;
@@ -532,13 +725,7 @@ public class DicomInputStream extends InputStream {
         if (length == 0) return true;
         boolean undefinedLength = length == -1;
         long endPos = pos + length & 0xffffffffL;
-        MemoryCache.DicomInput prevInput = null;
-        if (input.encoding.explicitVR
-                && cache.vrcode(pos - 8) == VR.UN.code
-                && probeSQImplicitVR(pos)) {
-            prevInput = input;
-            input = cache.dicomInput(DicomEncoding.IVR_LE);
-        }
+        MemoryCache.DicomInput prevInput = enterSequence();
         try {
             while (undefinedLength || pos < endPos) {
                 long header = parseHeader(dcmseq.containedBy());
@@ -547,13 +734,48 @@ public class DicomInputStream extends InputStream {
                 if (itemtag == Tag.SequenceDelimitationItem) break;
             }
         } finally {
-            if (prevInput != null) {
-                input = prevInput;
-            }
+            exitSequence(prevInput);
         }
         return true;
     }
 
+    /**
+     * Switches to Implicit VR Little Endian if the sequence with Value Representation UN, whose header was just
+     * parsed, is encoded in Implicit VR Little Endian.
+     *
+     * @return the previous input, which has to be passed to {@link #exitSequence}, or {@code null} if not switched
+     */
+    MemoryCache.DicomInput enterSequence() throws IOException {
+        if (input.encoding.explicitVR
+                && cache.vrcode(pos - 8) == VR.UN.code
+                && probeSQImplicitVR(pos)) {
+            MemoryCache.DicomInput prevInput = input;
+            input = dicomInput(DicomEncoding.IVR_LE);
+            return prevInput;
+        }
+        return null;
+    }
+
+    void exitSequence(MemoryCache.DicomInput prevInput) {
+        if (prevInput != null) {
+            input = prevInput;
+        }
+    }
+
+    void initDataSet() throws IOException {
+        if (input == null) {
+            guessEncoding();
+        }
+    }
+
+    long readHeader() throws IOException {
+        return parseHeader(null);
+    }
+
+    void discardCacheBefore(long pos) {
+        cache.discardBefore(pos);
+    }
+
     private boolean probeSQImplicitVR(long pos) throws IOException {
         if (cache.fillFrom(in, pos + 8) < pos + 8) {
             throw new EOFException();
@@ -22,9 +22,18 @@ public class DicomObject implements Serializable {
     private static final int TO_STRING_LINES = 50;
     private static final int DEFAULT_CAPACITY = 16;
     private static final int ITEM_DEFAULT_CAPACITY = 4;
+    private static final int TAG_INDEX_MIN_SIZE = 32;
     final MemoryCache.DicomInput dicomInput;
     final long position;
     final Sequence seq;
+    /**
+     * Cache of decoded values of the {@link DicomInputStream} which parsed this object, {@code null} if none.
+     */
+    StringValueCache stringValueCache;
+    /**
+     * Minimal number of items of sequences whose items are parsed in parallel, applied on parsing of deferred items.
+     */
+    int parseItemsInParallelMinSize = Integer.MAX_VALUE;
 
     /**
      * Contains either position of Element in parsed DICOM stream or Element Tag for programmatically added Elements:
@@ -47,6 +56,12 @@ public class DicomObject implements Serializable {
      */
     volatile long[] headers = {};
 
+    /**
+     * Contains the Element Tags of the Elements in {@link #headers} at the same index, so tag comparisons do not have
+     * to decode the tag of parsed Elements from the DICOM stream.
+     */
+    volatile int[] tags = {};
+
     /**
      * Contains the value of programmatically added (not empty) Elements, either {@code byte[]}, {@code String[]} or
      * {@link DicomObject.Sequence}.
@@ -59,31 +74,105 @@ public class DicomObject implements Serializable {
     volatile int size;
     volatile int length = -1;
 
+    /**
+     * Open addressing hash table mapping Element Tags to indices in {@link #headers}, built on first lookup in
+     * objects with at least {@value #TAG_INDEX_MIN_SIZE} elements and discarded on modification. Contains pairs of
+     * tag and index + 1, with index + 1 = 0 marking empty slots.
+     */
+    private volatile int[] tagIndex;
+
+    /**
+     * {@code true} until the elements of an item, whose parsing was deferred, are parsed. Reset only after parsing
+     * completed, so a thread which reads {@code false} sees all parsed elements without synchronization. Threads which
+     * read {@code true} parse the item or wait until it is parsed by another thread in {@link #parseDeferred()}.
+     */
+    private volatile boolean deferred;
+
+    /**
+     * Set while the item is parsed, to let the parsing thread access its elements, guarded by the monitor of this
+     * {@code DicomObject}.
+     */
+    private boolean parsing;
+
+    /**
+     * {@code true} if {@link #headers}, {@link #tags} and {@link #values} may be shared with an item of a copy of
+     * the containing data set. Shared arrays are never modified; they are copied by {@link #ensureOwned()} before the
+     * first modification of either item. {@code Sequence}s and {@code Fragments} are never shared, so an item with
+     * such elements shares only {@link #headers} and {@link #tags}.
+     */
+    boolean shared;
+
     DicomObject(MemoryCache.DicomInput dicomInput, long position, int length, Sequence seq, int size) {
         this.dicomInput = dicomInput;
         this.position = position;
         this.length = length;
         this.seq = seq;
         this.size = size;
+        this.deferred = size < 0;
     }
 
     DicomObject(DicomObject o) {
-        this(o.dicomInput, o.position, o.length, o.seq, o.size);
+        this(o.dicomInput, o.position, o.length, o.seq, o.deferred ? -1 : o.size);
+        this.stringValueCache = o.stringValueCache;
+        this.parseItemsInParallelMinSize = o.parseItemsInParallelMinSize;
         if (size > 0) {
-            int capacity = size + 1; // reserve space to include Group Length
-            this.headers = Arrays.copyOf(o.headers, capacity);
-            this.values = Arrays.copyOf(o.values, capacity);
             this.specificCharacterSet = o.specificCharacterSet;
-            for (int i = 0; i < size; i++) {
-                if (values[i] instanceof Sequence seq) {
-                    values[i] = new Sequence(seq);
-                } else if (values[i] instanceof Fragments frag) {
-                    values[i] = new Fragments(frag);
+            this.tagIndex = o.tagIndex;
+            copyArrays(o.headers, o.tags, o.values);
+            copyContainers(false);
+        }
+    }
+
+    /**
+     * Creates an item of a copied sequence, which shares the elements with the original item until one of them is
+     * modified. Contained {@code Sequence}s and {@code Fragments} are copied, recursively.
+     */
+    private DicomObject(DicomObject o, Sequence seq) {
+        this(o.dicomInput, o.position, o.length, seq, o.deferred ? -1 : o.size);
+        this.stringValueCache = o.stringValueCache;
+        this.parseItemsInParallelMinSize = o.parseItemsInParallelMinSize;
+        if (size > 0) {
+            this.specificCharacterSet = o.specificCharacterSet;
+            this.tagIndex = o.tagIndex;
+            this.headers = o.headers;
+            this.tags = o.tags;
+            this.values = o.values;
+            this.shared = o.shared = true;
+            copyContainers(true);
+        }
+    }
+
+    private void copyArrays(long[] headers, int[] tags, Object[] values) {
+        int capacity = size + 1; // reserve space to include Group Length
+        this.headers = Arrays.copyOf(headers, capacity);
+        this.tags = Arrays.copyOf(tags, capacity);
+        this.values = Arrays.copyOf(values, capacity);
+    }
+
+    /**
+     * Replaces the {@code Sequence}s and {@code Fragments} in {@link #values} by copies contained by this
+     * {@code DicomObject}, copying {@link #values} before, if it is shared.
+     */
+    private void copyContainers(boolean valuesShared) {
+        for (int i = 0; i < size; i++) {
+            Object value = values[i];
+            if (value instanceof Sequence || value instanceof Fragments) {
+                if (valuesShared) {
+                    values = Arrays.copyOf(values, size + 1);
+                    valuesShared = false;
                 }
+                values[i] = value instanceof Sequence seq ? new Sequence(seq) : new Fragments((Fragments) value);
             }
         }
     }
 
+    private void ensureOwned() {
+        if (shared) {
+            copyArrays(headers, tags, values);
+            shared = false;
+        }
+    }
+
     public DicomObject() {
         this(null, -1L, -1, null, 0);
     }
@@ -116,21 +205,392 @@ public class DicomObject implements Serializable {
     }
 
     public int size() {
-        if (size < 0) {
-            size = 0;
-            try {
-                new DicomInputStream(dicomInput).parse(this);
-            } catch (IOException e) {
-                throw new IORuntimeException("Failed to parse item", e);
-            }
+        if (deferred) {
+            parseDeferred();
         }
         return size;
     }
 
+    private synchronized void parseDeferred() {
+        if (!deferred || parsing) return;
+        parsing = true;
+        try {
+            size = 0;
+            new DicomInputStream(dicomInput, stringValueCache, parseItemsInParallelMinSize).parse(this);
+            deferred = false;
+        } catch (IOException e) {
+            size = -1;
+            headers = new long[0];
+            tags = ByteOrder.EMPTY_INTS;
+            values = new Object[0];
+            tagIndex = null;
+            throw new IORuntimeException("Failed to parse item", e);
+        } finally {
+            parsing = false;
+        }
+    }
+
     public boolean isEmpty() {
         return size() == 0;
     }
 
+    /**
+     * Releases the memory cache holding the values of the parsed DICOM stream, returning its blocks to the
+     * {@link BlockPool} passed to {@link DicomInputStream#DicomInputStream(InputStream, BlockPool)}. This
+     * {@code DicomObject}, and any other {@code DicomObject} parsed from the same DICOM stream - e.g. its items or
+     * the File Meta Information - must not be accessed afterwards.
+     */
+    public void release() {
+        if (dicomInput != null) {
+            dicomInput.cache().release();
+        }
+    }
+
+    /**
+     * Returns an immutable snapshot of this {@code DicomObject} with all values decoded, which can be shared by
+     * concurrent threads without synchronization. Not yet parsed items are parsed. The snapshot does not reference the
+     * memory cache of the parsed DICOM stream, so it remains valid after {@link #release()}.
+     *
+     * @return immutable snapshot of this {@code DicomObject}
+     */
+    public FrozenDicomObject freeze() {
+        return new FrozenDicomObject(this);
+    }
+
+    /**
+     * Returns a copy of this {@code DicomObject}, which can be modified independently. The elements of items of
+     * sequences are not copied, but shared with the original items until either of them is modified, so the cost of
+     * the copy depends on the number of contained items, but not on their size. Accessing elements of the copy or of
+     * this {@code DicomObject} does not copy them.
+     *
+     * @return copy of this {@code DicomObject}
+     */
+    public DicomObject copy() {
+        return new DicomObject(this);
+    }
+
+    /**
+     * Updates this {@code DicomObject} with the elements of another {@code DicomObject}. Both objects are walked once
+     * in tag order; values of elements contained in both are compared in place on the bytes of the parsed DICOM
+     * streams, without decoding them, if their encoding is compatible. Elements, items and Data Fragments added from
+     * a {@code DicomObject} parsed from another DICOM stream are decoded or copied, so they remain valid after the
+     * other stream is released; items added from the same DICOM stream share their elements with the items of the
+     * other object until either of them is modified. Group Length elements are not updated.
+     *
+     * @param other  {@code DicomObject} providing the new values
+     * @param policy how to update elements contained in both objects
+     * @return {@code true} if this {@code DicomObject} was modified
+     */
+    public boolean update(DicomObject other, UpdatePolicy policy) {
+        if (this == other || isSameAs(other))
+            return false;
+
+        int otherSize = other.size();
+        if (policy != UpdatePolicy.SUPPLEMENT || !contains(Tag.SpecificCharacterSet)) {
+            if (other.contains(Tag.SpecificCharacterSet) && !sameCharacterSet(this, other)) {
+                decodeStringValues();
+            }
+        }
+        boolean sameCS = sameCharacterSet(this, other);
+        int size = size();
+        int[] tags = this.tags;
+        int[] otherTags = other.tags;
+        int[] insertAt = null;
+        int[] insertTags = null;
+        long[] insertHeaders = null;
+        Object[] insertValues = null;
+        int inserts = 0;
+        boolean modified = false;
+        boolean updateCS = false;
+        for (int i = 0, j = 0; j < otherSize; j++) {
+            int tag = otherTags[j];
+            if (TagUtils.isGroupLength(tag)) continue;
+            while (i < size && Integer.compareUnsigned(tags[i], tag) < 0) i++;
+            if (i == size || tags[i] != tag) {
+                if (insertAt == null) {
+                    int capacity = otherSize - j;
+                    insertAt = new int[capacity];
+                    insertTags = new int[capacity];
+                    insertHeaders = new long[capacity];
+                    insertValues = new Object[capacity];
+                }
+                insertAt[inserts] = i;
+                insertTags[inserts] = tag;
+                copyElement(other, j, sameCS, insertHeaders, insertValues, inserts++);
+            } else if (policy == UpdatePolicy.MERGE && values[i] instanceof Sequence
+                    && other.values[j] instanceof Sequence otherSeq) {
+                ensureOwned();
+                modified |= ((Sequence) values[i]).merge(otherSeq, sameCS ? null : other.specificCharacterSet());
+            } else if (policy != UpdatePolicy.SUPPLEMENT && !valueEquals(this, i, other, j)) {
+                ensureOwned();
+                copyElement(other, j, sameCS, headers, values, i);
+                modified = true;
+            } else {
+                continue;
+            }
+            updateCS |= tag == Tag.SpecificCharacterSet;
+        }
+        if (inserts > 0) {
+            ensureOwned();
+            insertAll(insertAt, insertTags, insertHeaders, insertValues, inserts);
+            modified = true;
+        }
+        if (updateCS) {
+            specificCharacterSet = SpecificCharacterSet.valueOf(
+                    StringVR.ASCII.stringValues(this, indexOf(Tag.SpecificCharacterSet)));
+        }
+        return modified;
+    }
+
+    private void insertAll(int[] insertAt, int[] insertTags, long[] insertHeaders, Object[] insertValues,
+                           int inserts) {
+        int newSize = size + inserts;
+        long[] newHeaders = new long[newSize + 1]; // reserve space to include Group Length
+        int[] newTags = new int[newSize + 1];
+        Object[] newValues = new Object[newSize + 1];
+        for (int dest = 0, src = 0, k = 0; dest < newSize; dest++) {
+            if (k < inserts && insertAt[k] == src) {
+                newHeaders[dest] = insertHeaders[k];
+                newTags[dest] = insertTags[k];
+                newValues[dest] = insertValues[k++];
+            } else {
+                newHeaders[dest] = headers[src];
+                newTags[dest] = tags[src];
+                newValues[dest] = values[src++];
+            }
+        }
+        this.headers = newHeaders;
+        this.tags = newTags;
+        this.values = newValues;
+        this.size = newSize;
+        this.tagIndex = null;
+    }
+
+    /**
+     * Stores header and value of element {@code j} of {@code other} at {@code k} in the specified arrays. Headers of
+     * parsed elements are only reused if both objects were parsed from the same DICOM stream.
+     */
+    private void copyElement(DicomObject other, int j, boolean sameCS, long[] headers, Object[] values, int k) {
+        long header = other.headers[j];
+        Object value = other.values[j];
+        int tag = other.tags[j];
+        VR vr = VR.fromHeader(header);
+        long programmatic = vr.toHeader() | (tag & 0xffffffffL);
+        boolean sameInput = dicomInput != null && dicomInput == other.dicomInput;
+        if (value instanceof Sequence seq) {
+            Sequence copy = new Sequence(tag);
+            copy.merge(seq, sameCS ? null : other.specificCharacterSet());
+            headers[k] = programmatic;
+            values[k] = copy;
+        } else if (value instanceof Fragments fragments) {
+            if (sameInput) {
+                headers[k] = header;
+                values[k] = new Fragments(fragments);
+            } else {
+                Fragments copy = new Fragments(tag);
+                for (int f = 0; f < fragments.size; f++) {
+                    copy.add(fragments.tagAt(f), fragments.bytesAt(f));
+                }
+                headers[k] = programmatic;
+                values[k] = copy;
+            }
+        } else if ((int)(header >>> 62) == 0 || sameInput
+                && (sameCS || !(vr.type instanceof StringVR stringVR && stringVR.specificCharacterSet()))) {
+            headers[k] = header;
+            values[k] = value;
+        } else if (value instanceof String bulkDataURI) {
+            headers[k] = DicomInputStream.BULKDATA_HEADER_BIT | programmatic;
+            values[k] = bulkDataURI;
+        } else {
+            headers[k] = programmatic;
+            values[k] = vr == VR.SQ ? new Sequence(tag)
+                    : vr.type instanceof StringVR ? vr.type.stringValues(other, j)
+                    : vr.type instanceof BinaryVR binaryVR ? binaryVR.valueBytes(other, j)
+                    : other.rawValueBytes(j);
+        }
+    }
+
+    /**
+     * Replaces parsed values encoded by the Specific Character Set by the decoded strings, in this object and in
+     * items inheriting its Specific Character Set, before the Specific Character Set is changed.
+     */
+    private void decodeStringValues() {
+        int size = size();
+        ensureOwned();
+        for (int i = 0; i < size; i++) {
+            long header = headers[i];
+            Object value = values[i];
+            VR vr = VR.fromHeader(header);
+            if (value instanceof Sequence seq) {
+                for (int k = 0; k < seq.size; k++) {
+                    DicomObject item = seq.items[k];
+                    if (item.size() > 0 && item.specificCharacterSet == null) {
+                        item.decodeStringValues();
+                    }
+                }
+            } else if ((int)(header >>> 62) != 0 && !(value instanceof String)
+                    && vr.type instanceof StringVR stringVR && stringVR.specificCharacterSet()) {
+                String[] ss = vr.type.stringValues(this, i);
+                headers[i] = vr.toHeader() | (tags[i] & 0xffffffffL);
+                values[i] = ss;
+            }
+        }
+    }
+
+    /**
+     * Returns the differences between this and another {@code DicomObject}, comparing items of sequences contained
+     * in both objects pairwise. Values are compared in place on the bytes of the parsed DICOM streams, without
+     * decoding them, if their encoding is compatible. Group Length elements are ignored.
+     *
+     * @param other {@code DicomObject} to compare with
+     * @return differences in tag order, with {@link Change#ADDED} for elements or items only contained in
+     * {@code other}, and {@link Change#REMOVED} for elements or items only contained in this object
+     */
+    public List<Difference> diff(DicomObject other) {
+        List<Difference> diffs = new ArrayList<>();
+        diff(this, other, ByteOrder.EMPTY_INTS, diffs);
+        return diffs;
+    }
+
+    /**
+     * Walks both objects in tag order and adds found differences to {@code diffs}. If {@code diffs} is
+     * {@code null}, returns on the first difference, without building its path.
+     *
+     * @return {@code true} if any difference was found
+     */
+    private static boolean diff(DicomObject a, DicomObject b, int[] path, List<Difference> diffs) {
+        if (a == b || a.isSameAs(b))
+            return false;
+
+        int size1 = a.size();
+        int size2 = b.size();
+        int[] tags1 = a.tags;
+        int[] tags2 = b.tags;
+        boolean differs = false;
+        int i = 0;
+        int j = 0;
+        while (i < size1 || j < size2) {
+            int cmp = i == size1 ? 1 : j == size2 ? -1 : Integer.compareUnsigned(tags1[i], tags2[j]);
+            int tag = cmp <= 0 ? tags1[i] : tags2[j];
+            if (!TagUtils.isGroupLength(tag)) {
+                Change change = cmp < 0 ? Change.REMOVED : cmp > 0 ? Change.ADDED : null;
+                if (change == null) {
+                    if (VR.fromHeader(a.headers[i]) == VR.SQ && VR.fromHeader(b.headers[j]) == VR.SQ) {
+                        if (diffItems(a.values[i], b.values[j], diffs != null ? append(path, tag) : null, diffs)) {
+                            if (diffs == null) return true;
+                            differs = true;
+                        }
+                    } else if (!valueEquals(a, i, b, j)) {
+                        change = Change.MODIFIED;
+                    }
+                }
+                if (change != null) {
+                    if (diffs == null) return true;
+                    diffs.add(new Difference(change, append(path, tag)));
+                    differs = true;
+                }
+            }
+            if (cmp <= 0) i++;
+            if (cmp >= 0) j++;
+        }
+        return differs;
+    }
+
+    private static boolean diffItems(Object value1, Object value2, int[] path, List<Difference> diffs) {
+        Sequence seq1 = value1 instanceof Sequence seq ? seq : null;
+        Sequence seq2 = value2 instanceof Sequence seq ? seq : null;
+        int size1 = seq1 != null ? seq1.size : 0;
+        int size2 = seq2 != null ? seq2.size : 0;
+        if (diffs == null && size1 != size2)
+            return true;
+
+        boolean differs = false;
+        for (int k = 0, n = Math.max(size1, size2); k < n; k++) {
+            if (k < size1 && k < size2) {
+                if (diff(seq1.items[k], seq2.items[k], diffs != null ? append(path, k) : null, diffs)) {
+                    if (diffs == null) return true;
+                    differs = true;
+                }
+            } else {
+                diffs.add(new Difference(k < size1 ? Change.REMOVED : Change.ADDED, append(path, k)));
+                differs = true;
+            }
+        }
+        return differs;
+    }
+
+    private static int[] append(int[] path, int value) {
+        int[] newPath = Arrays.copyOf(path, path.length + 1);
+        newPath[path.length] = value;
+        return newPath;
+    }
+
+    /**
+     * Returns {@code true} if both objects are known to contain the same elements without comparing them, because
+     * they are both not yet parsed items at the same position of the same DICOM stream, or because they share their
+     * elements after {@link #copy()}.
+     */
+    private boolean isSameAs(DicomObject other) {
+        if (deferred && other.deferred)
+            return dicomInput == other.dicomInput && position == other.position;
+        return headers == other.headers && size() == other.size();
+    }
+
+    private static boolean valueEquals(DicomObject a, int i, DicomObject b, int j) {
+        long header1 = a.headers[i];
+        long header2 = b.headers[j];
+        Object value1 = a.values[i];
+        Object value2 = b.values[j];
+        VR vr = VR.fromHeader(header1);
+        if (vr != VR.fromHeader(header2))
+            return false;
+        if (value1 == value2 && (value1 != null || header1 == header2 && a.dicomInput == b.dicomInput))
+            return true;
+        if (vr == VR.SQ)
+            return !diffItems(value1, value2, null, null);
+        if (value1 instanceof Fragments || value2 instanceof Fragments)
+            return value1 instanceof Fragments fragments1 && value2 instanceof Fragments fragments2
+                    && fragments1.contentEquals(fragments2);
+        if (value1 instanceof String || value2 instanceof String)
+            return value1 instanceof String bulkDataURI && bulkDataURI.equals(value2);
+        if ((int)(header1 >>> 62) != 0 && (int)(header2 >>> 62) != 0
+                && (vr.type.toggleEndian() == null
+                    || a.dicomInput.encoding.byteOrder == b.dicomInput.encoding.byteOrder)
+                && (!(vr.type instanceof StringVR stringVR && stringVR.specificCharacterSet())
+                    || sameCharacterSet(a, b))) {
+            int length = a.header2valueLength(header1);
+            if (length == b.header2valueLength(header2)
+                    && a.dicomInput.cache().regionMatches(header2valuePosition(header1),
+                    b.dicomInput.cache(), header2valuePosition(header2), length))
+                return true;
+            if (!(vr.type instanceof StringVR))
+                return false;
+        }
+        return vr.type instanceof StringVR ? Arrays.equals(a.stringValues(i, vr), b.stringValues(j, vr))
+                : vr.type instanceof BinaryVR binaryVR
+                ? Arrays.equals(binaryVR.valueBytes(a, i), binaryVR.valueBytes(b, j))
+                : Arrays.equals(a.rawValueBytes(i), b.rawValueBytes(j));
+    }
+
+    private String[] stringValues(int i, VR vr) {
+        return values[i] instanceof byte[] b
+                ? vr.type.stringValues(specificCharacterSet().decode(b, 0, b.length))
+                : vr.type.stringValues(this, i);
+    }
+
+    private byte[] rawValueBytes(int i) {
+        long header = headers[i];
+        return values[i] instanceof byte[] b ? b
+                : (int)(header >>> 62) == 0 ? ByteOrder.EMPTY_BYTES
+                : dicomInput.cache().bytesAt(header2valuePosition(header), header2valueLength(header));
+    }
+
+    private static boolean sameCharacterSet(DicomObject a, DicomObject b) {
+        SpecificCharacterSet cs1 = a.specificCharacterSet();
+        SpecificCharacterSet cs2 = b.specificCharacterSet();
+        return cs1 == cs2 || Arrays.equals(cs1.toCodes(), cs2.toCodes());
+    }
+
     public boolean isItem() {
         return seq != null;
     }
@@ -173,6 +633,77 @@ public class DicomObject implements Serializable {
         return getInt(tag).orElseThrow(() -> missing(tag));
     }
 
+    /**
+     * Returns the value of the element at the specified index as {@code int}, without allocating an
+     * {@link OptionalInt}.
+     *
+     * @param tag    tag of the element
+     * @param index  index of the value, starting with 0
+     * @param defVal value returned if the element or the value at the index is missing
+     * @return value at the index or {@code defVal}
+     */
+    public int getInt(int tag, int index, int defVal) {
+        int i = indexOf(tag);
+        return i < 0 ? defVal : VR.fromHeader(headers[i]).type.intValue(this, i, index, defVal);
+    }
+
+    /**
+     * Decodes the values of the element as {@code int} into the specified array, without allocating a new array.
+     *
+     * @param tag  tag of the element
+     * @param dest array receiving the first {@code dest.length} values
+     * @return number of values of the element, which may exceed {@code dest.length}
+     */
+    public int getInts(int tag, int[] dest) {
+        int i = indexOf(tag);
+        return i < 0 ? 0 : VR.fromHeader(headers[i]).type.intValues(this, i, dest);
+    }
+
+    /**
+     * Returns all values of the element as {@code short}. Binary values are decoded in one pass over the whole value.
+     *
+     * @param tag tag of the element
+     * @return values of the element, or an empty array if the element is missing or has no binary value
+     */
+    public short[] getShorts(int tag) {
+        int i = indexOf(tag);
+        return i < 0 ? ByteOrder.EMPTY_SHORTS : VR.fromHeader(headers[i]).type.shortValues(this, i);
+    }
+
+    /**
+     * Returns all values of the element as {@code int}. Binary values are decoded in one pass over the whole value.
+     *
+     * @param tag tag of the element
+     * @return values of the element, or an empty array if the element is missing or has no integer value
+     */
+    public int[] getInts(int tag) {
+        int i = indexOf(tag);
+        return i < 0 ? ByteOrder.EMPTY_INTS : VR.fromHeader(headers[i]).type.intValues(this, i);
+    }
+
+    /**
+     * Returns all values of the element as {@code float}. Binary values are decoded in one pass over the whole value.
+     *
+     * @param tag tag of the element
+     * @return values of the element, or an empty array if the element is missing or has no numeric binary value
+     */
+    public float[] getFloats(int tag) {
+        int i = indexOf(tag);
+        return i < 0 ? ByteOrder.EMPTY_FLOATS : VR.fromHeader(headers[i]).type.floatValues(this, i);
+    }
+
+    /**
+     * Returns all values of the element as {@code double}. Binary values are decoded in one pass over the whole
+     * value.
+     *
+     * @param tag tag of the element
+     * @return values of the element, or an empty array if the element is missing or has no numeric binary value
+     */
+    public double[] getDoubles(int tag) {
+        int i = indexOf(tag);
+        return i < 0 ? ByteOrder.EMPTY_DOUBLES : VR.fromHeader(headers[i]).type.doubleValues(this, i);
+    }
+
     public OptionalLong getLong(int tag, int index) {
         int i = indexOf(tag);
         return i < 0
@@ -188,6 +719,11 @@ public class DicomObject implements Serializable {
         return getLong(tag).orElseThrow(() -> missing(tag));
     }
 
+    public long getLong(int tag, int index, long defVal) {
+        int i = indexOf(tag);
+        return i < 0 ? defVal : VR.fromHeader(headers[i]).type.longValue(this, i, index, defVal);
+    }
+
     public OptionalFloat getFloat(int tag, int index) {
         int i = indexOf(tag);
         return i < 0
@@ -203,6 +739,11 @@ public class DicomObject implements Serializable {
         return getFloat(tag).orElseThrow(() -> missing(tag));
     }
 
+    public float getFloat(int tag, int index, float defVal) {
+        int i = indexOf(tag);
+        return i < 0 ? defVal : VR.fromHeader(headers[i]).type.floatValue(this, i, index, defVal);
+    }
+
     public OptionalDouble getDouble(int tag, int index) {
         int i = indexOf(tag);
         return i < 0
@@ -218,6 +759,11 @@ public class DicomObject implements Serializable {
         return getDouble(tag).orElseThrow(() -> missing(tag));
     }
 
+    public double getDouble(int tag, int index, double defVal) {
+        int i = indexOf(tag);
+        return i < 0 ? defVal : VR.fromHeader(headers[i]).type.doubleValue(this, i, index, defVal);
+    }
+
     public Optional<String> getString(int tag, int index) {
         int i = indexOf(tag);
         return i < 0
@@ -233,11 +779,156 @@ public class DicomObject implements Serializable {
         return getString(tag).orElseThrow(() -> missing(tag));
     }
 
+    public String getString(int tag, int index, String defVal) {
+        int i = indexOf(tag);
+        return i < 0 ? defVal : VR.fromHeader(headers[i]).type.stringValue(this, i, index, defVal);
+    }
+
+    /**
+     * Returns the values of the element with the specified tag. The returned array is a copy, because the decoded
+     * values may be shared with other data sets by a {@link StringValueCache}.
+     *
+     * @param tag tag of the element
+     * @return the values or an empty array, if the element is absent
+     */
     public String[] getStrings(int tag) {
         int i = indexOf(tag);
-        return i < 0
-                ? StringUtils.EMPTY_STRINGS
-                : VR.fromHeader(headers[i]).type.stringValues(this, i);
+        if (i < 0)
+            return StringUtils.EMPTY_STRINGS;
+
+        String[] ss = VR.fromHeader(headers[i]).type.stringValues(this, i);
+        return ss.length > 0 ? ss.clone() : ss;
+    }
+
+    /**
+     * Returns the first value of a DA element as epoch day, parsed directly from its encoded bytes.
+     *
+     * @param tag tag of the element
+     * @return the epoch day or an empty {@code OptionalLong}, if the element is absent or has no value
+     * @throws java.time.format.DateTimeParseException if the value is not a valid date
+     */
+    public OptionalLong getDate(int tag) {
+        long epochDay = getDate(tag, DateTimeParser.NO_VALUE);
+        return epochDay != DateTimeParser.NO_VALUE ? OptionalLong.of(epochDay) : OptionalLong.empty();
+    }
+
+    public long getDate(int tag, long defVal) {
+        return dateTimeValue(tag, DateTimeParser.DA, defVal);
+    }
+
+    /**
+     * Returns the first value of a TM element as nano of day, parsed directly from its encoded bytes. Missing
+     * components of partial values are zero.
+     *
+     * @param tag tag of the element
+     * @return the nano of day or an empty {@code OptionalLong}, if the element is absent or has no value
+     * @throws java.time.format.DateTimeParseException if the value is not a valid time
+     */
+    public OptionalLong getTime(int tag) {
+        long nanoOfDay = getTime(tag, DateTimeParser.NO_VALUE);
+        return nanoOfDay != DateTimeParser.NO_VALUE ? OptionalLong.of(nanoOfDay) : OptionalLong.empty();
+    }
+
+    public long getTime(int tag, long defVal) {
+        return dateTimeValue(tag, DateTimeParser.TM, defVal);
+    }
+
+    /**
+     * Returns the first value of a DT element as milliseconds from the epoch of 1970-01-01T00:00:00Z, parsed directly
+     * from its encoded bytes. Missing components of partial values are the minimal value of the component. Values
+     * without UTC offset suffix are parsed as UTC.
+     *
+     * @param tag tag of the element
+     * @return the epoch milli or an empty {@code OptionalLong}, if the element is absent or has no value
+     * @throws java.time.format.DateTimeParseException if the value is not a valid date time
+     */
+    public OptionalLong getDateTimeMillis(int tag) {
+        long epochMilli = getDateTimeMillis(tag, DateTimeParser.NO_VALUE);
+        return epochMilli != DateTimeParser.NO_VALUE ? OptionalLong.of(epochMilli) : OptionalLong.empty();
+    }
+
+    public long getDateTimeMillis(int tag, long defVal) {
+        return dateTimeValue(tag, DateTimeParser.DT, defVal);
+    }
+
+    /**
+     * Returns the first values of a pair of DA and TM elements as milliseconds from the epoch of 1970-01-01T00:00:00Z,
+     * parsed as UTC. If the TM element is absent or has no value, the time is midnight.
+     *
+     * @param tag tag of the DA element in the upper, tag of the TM element in the lower 32 bits, e.g.
+     *            {@link Tag#StudyDateAndTime}
+     * @return the epoch milli or an empty {@code OptionalLong}, if the DA element is absent or has no value
+     * @throws java.time.format.DateTimeParseException if the values are not a valid date or time
+     */
+    public OptionalLong getDateTimeMillis(long tag) {
+        long epochMilli = getDateTimeMillis(tag, DateTimeParser.NO_VALUE);
+        return epochMilli != DateTimeParser.NO_VALUE ? OptionalLong.of(epochMilli) : OptionalLong.empty();
+    }
+
+    public long getDateTimeMillis(long tag, long defVal) {
+        long epochDay = getDate((int) (tag >>> 32), DateTimeParser.NO_VALUE);
+        return epochDay != DateTimeParser.NO_VALUE
+                ? epochDay * DateTimeParser.MILLIS_PER_DAY + getTime((int) tag, 0L) / 1_000_000
+                : defVal;
+    }
+
+    private long dateTimeValue(int tag, DateTimeParser parser, long defVal) {
+        int i = indexOf(tag);
+        return i < 0 ? defVal : VR.fromHeader(headers[i]).type.dateTimeValue(this, i, parser, defVal);
+    }
+
+    /**
+     * Returns {@code true} if any value of the element equals the specified value. Values of parsed elements encoded
+     * by a character set without code extensions are compared on their encoded bytes, without decoding them.
+     *
+     * @param tag   tag of the element
+     * @param value value to compare with
+     * @return {@code true} if any value of the element equals {@code value}
+     */
+    public boolean valueEquals(int tag, String value) {
+        int i = indexOf(tag);
+        return i >= 0 && VR.fromHeader(headers[i]).type.matches(this, i, value, ValueMatcher.Mode.EQUALS);
+    }
+
+    /**
+     * Returns {@code true} if any value of the element equals the specified encoded value. Avoids the encoding of the
+     * value on each invocation, if many objects are compared with the same value.
+     *
+     * @param tag   tag of the element
+     * @param value value encoded by the Specific Character Set of this object, or by ASCII for Value
+     *              Representations restricted to the Default Character Repertoire
+     * @return {@code true} if any value of the element equals {@code value}
+     */
+    public boolean valueEquals(int tag, byte[] value) {
+        int i = indexOf(tag);
+        return i >= 0 && VR.fromHeader(headers[i]).type.matches(this, i, value, ValueMatcher.Mode.EQUALS);
+    }
+
+    /**
+     * Returns {@code true} if any value of the element starts with the specified prefix, compared as by
+     * {@link #valueEquals(int, String)}.
+     *
+     * @param tag    tag of the element
+     * @param prefix prefix to compare with
+     * @return {@code true} if any value of the element starts with {@code prefix}
+     */
+    public boolean startsWith(int tag, String prefix) {
+        int i = indexOf(tag);
+        return i >= 0 && VR.fromHeader(headers[i]).type.matches(this, i, prefix, ValueMatcher.Mode.STARTS_WITH);
+    }
+
+    /**
+     * Returns {@code true} if any value of the element matches the specified pattern, compared as by
+     * {@link #valueEquals(int, String)}.
+     *
+     * @param tag     tag of the element
+     * @param pattern pattern, where {@code '*'} matches any sequence of characters and {@code '?'} any single
+     *                character
+     * @return {@code true} if any value of the element matches {@code pattern}
+     */
+    public boolean matchesWildcard(int tag, String pattern) {
+        int i = indexOf(tag);
+        return i >= 0 && VR.fromHeader(headers[i]).type.matches(this, i, pattern, ValueMatcher.Mode.WILDCARD);
     }
 
     public Optional<String> getBulkDataURI(int tag) {
@@ -276,7 +967,7 @@ public class DicomObject implements Serializable {
 
     public Fragments newFragments(int tag, long header) {
         Fragments fragments = new Fragments(tag);
-        add(header, fragments);
+        add(tag, header, fragments);
         return fragments;
     }
 
@@ -310,15 +1001,20 @@ public class DicomObject implements Serializable {
     }
 
     private int add(int tag, VR vr, Object value) {
-        return add(vr.toHeader() | (tag & 0xffffffffL), value);
+        return add(tag, vr.toHeader() | (tag & 0xffffffffL), value);
     }
 
     public int add(long header, Object value) {
-        int tag = header2tag(header);
-        int index = indexOf(tag);
+        return add(header2tag(header), header, value);
+    }
+
+    int add(int tag, long header, Object value) {
+        int index = binarySearch(tag);
+        ensureOwned();
         int i;
         if (index < 0) {
-            insertAt(i = -(index + 1), header, value);
+            insertAt(i = -(index + 1), tag, header, value);
+            tagIndex = null;
         } else {
             headers[i = index] = header;
             values[i] = value;
@@ -329,37 +1025,81 @@ public class DicomObject implements Serializable {
         return index;
     }
 
-    private void insertAt(int index, long header, Object value) {
+    private void insertAt(int index, int tag, long header, Object value) {
         int copy = size - index;
         int oldCapacity = headers.length;
         if (++size >= oldCapacity) {
             if (oldCapacity == 0) {
                 int newCapacity = seq != null ? ITEM_DEFAULT_CAPACITY : DEFAULT_CAPACITY;
                 headers = new long[newCapacity];
+                tags = new int[newCapacity];
                 values = new Object[newCapacity];
             } else {
                 int newCapacity = oldCapacity << 1;
                 headers = Arrays.copyOf(headers, newCapacity);
+                tags = Arrays.copyOf(tags, newCapacity);
                 values = Arrays.copyOf(values, newCapacity);
             }
         }
         if (copy > 0) {
             System.arraycopy(headers, index, headers, index + 1, copy);
+            System.arraycopy(tags, index, tags, index + 1, copy);
             System.arraycopy(values, index, values, index + 1, copy);
         }
         headers[index] = header;
+        tags[index] = tag;
         values[index] = value;
     }
 
     private int indexOf(int tag) {
         int size = size();
+        if (size < TAG_INDEX_MIN_SIZE)
+            return binarySearch(tag);
+
+        int[] table = tagIndex;
+        if (table == null) {
+            tagIndex = table = buildTagIndex(size);
+        }
+        int mask = (table.length >>> 1) - 1;
+        for (int slot = hash(tag) & mask;; slot = (slot + 1) & mask) {
+            int index = table[(slot << 1) + 1] - 1;
+            if (index < 0 || table[slot << 1] == tag)
+                return index;
+        }
+    }
+
+    private int[] buildTagIndex(int size) {
+        int[] tags = this.tags;
+        int capacity = Integer.highestOneBit(size) << 2; // load factor <= 0.5
+        int mask = capacity - 1;
+        int[] table = new int[capacity << 1];
+        for (int index = 0; index < size; index++) {
+            int tag = tags[index];
+            int slot = hash(tag) & mask;
+            while (table[(slot << 1) + 1] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot << 1] = tag;
+            table[(slot << 1) + 1] = index + 1;
+        }
+        return table;
+    }
+
+    private static int hash(int tag) {
+        int h = tag * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+
+    private int binarySearch(int tag) {
+        int size = size();
+        int[] tags = this.tags;
         int high = size - 1;
-        if (size > 0 && Integer.compareUnsigned(header2tag(headers[high]), tag) < 0)
+        if (size > 0 && Integer.compareUnsigned(tags[high], tag) < 0)
             return -(size + 1);
         int low = 0;
         while (low <= high) {
             int mid = (low + high) >>> 1;
-            int cmp = Integer.compareUnsigned(header2tag(headers[mid]), tag);
+            int cmp = Integer.compareUnsigned(tags[mid], tag);
             if (cmp < 0)
                 low = mid + 1;
             else if (cmp > 0)
@@ -404,7 +1144,7 @@ public class DicomObject implements Serializable {
     }
 
     public int promptTo(StringBuilder sb, int maxColumns, int maxLines) {
-        if (size < 0) {
+        if (deferred) {
             if (--maxLines > 0) {
                 promptLevelTo(sb).append(" not parsed");
             }
@@ -475,14 +1215,14 @@ public class DicomObject implements Serializable {
     }
 
     int calculateLength(DicomOutputStream dos) {
-        if (size == -1 && dicomInput.encoding == dos.encoding()) {
+        if (deferred && dicomInput.encoding == dos.encoding()) {
             return length;
         }
         int size = size();
         int length = 0;
         for (int index = 0; index < size; index++) {
             long header = headers[index];
-            if (!TagUtils.isGroupLength(header2tag(header))) {
+            if (!TagUtils.isGroupLength(tags[index])) {
                 VR vr = VR.fromHeader(header);
                 int l = headerLength(dos, header, vr);
                 if (l > 0) {
@@ -512,7 +1252,7 @@ public class DicomObject implements Serializable {
         int[] groupLengths = new int[groupLengthTags.length];
         for (int index = 0, gi = 0; index < size; index++) {
             long header = headers[index];
-            int tag = header2tag(header);
+            int tag = tags[index];
             if (!TagUtils.isGroupLength(tag)) {
                 VR vr = VR.fromHeader(header);
                 int l = headerLength(dos, header, vr);
@@ -574,7 +1314,14 @@ public class DicomObject implements Serializable {
             }
             return length;
         }
+        if (value instanceof Fragments fragments) {
+            return fragments.encodedLength();
+        }
         if (value instanceof String[] ss) {
+            if ((int) (header >>> 62) != 0) {
+                return header2valueLength(header);
+            }
+            ensureOwned();
             values[index] = value = vr.type.toBytes(ss, DicomObject.this);
         }
         if (value instanceof byte[] b) {
@@ -584,7 +1331,7 @@ public class DicomObject implements Serializable {
     }
 
     void writeTo(DicomOutputStream out, boolean includeGroupLength) throws IOException {
-        if (size == -1) {
+        if (deferred) {
             dicomInput.cache().writeBytesTo(position, length, out);
             return;
         }
@@ -593,15 +1340,17 @@ public class DicomObject implements Serializable {
             Object value = values[index];
             if (value instanceof Sequence seq) {
                 out.write(seq, includeGroupLength);
+            } else if (value instanceof Fragments fragments) {
+                out.write(fragments, VR.fromHeader(header));
             } else {
-                int tag = header2tag(header);
+                int tag = tags[index];
                 if (includeGroupLength || !TagUtils.isGroupLength(tag)){
                     if (value instanceof byte[] b) {
                         out.write(tag, VR.fromHeader(header), b);
                     } else if (value instanceof String bulkDataURI) {
                         out.write(tag, VR.fromHeader(header), bulkDataURI);
                     } else {
-                        out.write(header, dicomInput);
+                        out.write(tag, header, dicomInput);
                     }
                 }
             }
@@ -611,12 +1360,13 @@ public class DicomObject implements Serializable {
     int[] groupLengthTags() {
         int size = size();
         if (size == 0) return ByteOrder.EMPTY_INTS;
-        int gggg0000 = TagUtils.groupLengthTagOf(header2tag(headers[0]));
+        int[] elementTags = this.tags;
+        int gggg0000 = TagUtils.groupLengthTagOf(elementTags[0]);
         int[] tags = { gggg0000 };
-        if (gggg0000 != TagUtils.groupLengthTagOf(header2tag(headers[size - 1]))) {
+        if (gggg0000 != TagUtils.groupLengthTagOf(elementTags[size - 1])) {
             int n = 1;
             for (int i = 1; i < size; i++) {
-                int hhhh0000 = TagUtils.groupLengthTagOf(header2tag(headers[i]));
+                int hhhh0000 = TagUtils.groupLengthTagOf(elementTags[i]);
                 if (gggg0000 != hhhh0000) {
                     tags = Arrays.copyOf(tags, n + 1);
                     tags[n++] = gggg0000 = hhhh0000;
@@ -679,6 +1429,69 @@ public class DicomObject implements Serializable {
                 + TagUtils.toString(tag));
     }
 
+    /**
+     * Specifies how {@link #update(DicomObject, UpdatePolicy)} updates elements contained in both objects.
+     */
+    public enum UpdatePolicy {
+        /** Replaces differing values by the values of the other object. */
+        OVERWRITE,
+        /** Keeps the values of this object, only elements missing in this object are added. */
+        SUPPLEMENT,
+        /**
+         * Replaces differing values by the values of the other object, but updates items of sequences contained in
+         * both objects pairwise, appending surplus items of the other sequence.
+         */
+        MERGE
+    }
+
+    /**
+     * Kind of {@link Difference} returned by {@link #diff(DicomObject)}.
+     */
+    public enum Change {
+        /** Element or item is only contained in the other object. */
+        ADDED,
+        /** Element or item is only contained in this object. */
+        REMOVED,
+        /** Element is contained in both objects with different values. */
+        MODIFIED
+    }
+
+    /**
+     * Difference returned by {@link #diff(DicomObject)}. {@code path} alternates tags of sequences and indices of
+     * their items and ends with the tag of the added, removed or modified element, or with the index of the added or
+     * removed item.
+     */
+    public record Difference(Change change, int... path) {
+
+        public boolean isItem() {
+            return (path.length & 1) == 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Difference other && change == other.change && Arrays.equals(path, other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return change.hashCode() * 31 + Arrays.hashCode(path);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(change.name()).append(' ');
+            for (int i = 0; i < path.length; i++) {
+                if ((i & 1) == 0) {
+                    if (i > 0) sb.append('.');
+                    sb.append(TagUtils.toString(path[i]));
+                } else {
+                    sb.append('[').append(path[i]).append(']');
+                }
+            }
+            return sb.toString();
+        }
+    }
+
     public class Sequence {
         private static final DicomObject[] EMPTY_SEQUENCE = {};
         final int tag;
@@ -694,7 +1507,7 @@ public class DicomObject implements Serializable {
             this.items = new DicomObject[o.size];
             this.size = o.size;
             for (int i = 0; i < o.size; i++) {
-                items[i] = new DicomObject(o.items[i]);
+                items[i] = new DicomObject(o.items[i], this);
             }
         }
 
@@ -702,6 +1515,38 @@ public class DicomObject implements Serializable {
             return DicomObject.this;
         }
 
+        /**
+         * Updates the items of this sequence pairwise with the items of another sequence by
+         * {@link UpdatePolicy#MERGE} and appends the surplus items of the other sequence. Appended items of the same
+         * DICOM stream share their elements with the items of the other sequence until either of them is modified,
+         * appended items of another DICOM stream are copied with their values decoded.
+         *
+         * @param cs Specific Character Set of the other sequence, if it differs from this sequence, or {@code null}
+         */
+        private boolean merge(Sequence other, SpecificCharacterSet cs) {
+            boolean modified = false;
+            int n = size;
+            for (int k = 0, common = Math.min(n, other.size); k < common; k++) {
+                modified |= items[k].update(other.items[k], UpdatePolicy.MERGE);
+            }
+            for (int k = n; k < other.size; k++) {
+                DicomObject otherItem = other.items[k];
+                DicomObject item;
+                if (dicomInput != null && dicomInput == otherItem.dicomInput) {
+                    item = new DicomObject(otherItem, this);
+                    if (cs != null && item.specificCharacterSet == null) {
+                        item.specificCharacterSet = cs;
+                    }
+                } else {
+                    item = new DicomObject(null, -1L, -1, this, 0);
+                    item.update(otherItem, UpdatePolicy.OVERWRITE);
+                }
+                add(item);
+                modified = true;
+            }
+            return modified;
+        }
+
         public void add(DicomObject dcmObj) {
             int index = size++;
             ensureCapacity(index);
@@ -731,6 +1576,17 @@ public class DicomObject implements Serializable {
             return items[index];
         }
 
+        /**
+         * Parses all not yet parsed items of this sequence in parallel, using the
+         * {@link java.util.concurrent.ForkJoinPool#commonPool()}. Must not be invoked concurrently with other accesses
+         * to the items of this sequence.
+         *
+         * @throws IORuntimeException if parsing of an item failed
+         */
+        public void parseItemsInParallel() {
+            Arrays.stream(items, 0, size).parallel().forEach(DicomObject::size);
+        }
+
         int promptItemsTo(StringBuilder sb, int maxColumns, int maxLines) {
             for (int i = 0; i < size; i++) {
                 if (--maxLines < 0) break;
@@ -751,6 +1607,11 @@ public class DicomObject implements Serializable {
         private static final long[] EMPTY = {};
         final int tag;
         private long[] headers = EMPTY;
+        /**
+         * Values of fragments copied from another DICOM stream, {@code null} for parsed fragments or if there are
+         * no copied fragments.
+         */
+        private byte[][] values;
         private int size;
 
         private Fragments(int tag) {
@@ -760,6 +1621,9 @@ public class DicomObject implements Serializable {
         private Fragments(Fragments o) {
             this(o.tag);
             this.headers = Arrays.copyOf(o.headers, o.size);
+            if (o.values != null) {
+                this.values = Arrays.copyOf(o.values, o.size);
+            }
             this.size = o.size;
         }
 
@@ -769,6 +1633,16 @@ public class DicomObject implements Serializable {
             headers[index] = header;
         }
 
+        private void add(int itemTag, byte[] value) {
+            int index = size++;
+            ensureCapacity(index);
+            if (values == null) {
+                values = new byte[headers.length][];
+            }
+            headers[index] = itemTag & 0xffffffffL;
+            values[index] = value;
+        }
+
         private void ensureCapacity(int index) {
             int oldCapacity = headers.length;
             if (index < oldCapacity) return;
@@ -777,6 +1651,9 @@ public class DicomObject implements Serializable {
             } else {
                 headers = Arrays.copyOf(headers, oldCapacity == 2 ? 16 : oldCapacity << 1);
             }
+            if (values != null) {
+                values = Arrays.copyOf(values, headers.length);
+            }
         }
 
         public int size() {
@@ -786,5 +1663,60 @@ public class DicomObject implements Serializable {
         public DicomObject containedBy() {
             return DicomObject.this;
         }
+
+        int tagAt(int index) {
+            return header2tag(headers[Objects.checkIndex(index, size)]);
+        }
+
+        int lengthAt(int index) {
+            long header = headers[Objects.checkIndex(index, size)];
+            return values != null && values[index] != null
+                    ? values[index].length
+                    : header2valueLength(header);
+        }
+
+        /**
+         * Returns the length of the encoded fragments including their Item headers and the Sequence Delimitation
+         * Item.
+         */
+        int encodedLength() {
+            int length = 8;
+            for (int i = 0; i < size; i++) {
+                if (tagAt(i) != Tag.SequenceDelimitationItem) {
+                    length += 8 + ((lengthAt(i) + 1) & ~1);
+                }
+            }
+            return length;
+        }
+
+        byte[] bytesAt(int index) {
+            long header = headers[Objects.checkIndex(index, size)];
+            return values != null && values[index] != null
+                    ? values[index]
+                    : dicomInput.cache().bytesAt(header2valuePosition(header), header2valueLength(header));
+        }
+
+        private boolean contentEquals(Fragments other) {
+            if (size != other.size)
+                return false;
+
+            DicomObject that = other.containedBy();
+            for (int i = 0; i < size; i++) {
+                if (values != null && values[i] != null || other.values != null && other.values[i] != null) {
+                    if (tagAt(i) != other.tagAt(i) || !Arrays.equals(bytesAt(i), other.bytesAt(i)))
+                        return false;
+                    continue;
+                }
+                long header1 = headers[i];
+                long header2 = other.headers[i];
+                int length = header2valueLength(header1);
+                if ((header1 != header2 || dicomInput != that.dicomInput)
+                        && (length != that.header2valueLength(header2)
+                        || !dicomInput.cache().regionMatches(header2valuePosition(header1),
+                            that.dicomInput.cache(), header2valuePosition(header2), length)))
+                    return false;
+            }
+            return true;
+        }
     }
 }
@@ -216,6 +216,20 @@ public class DicomOutputStream extends OutputStream  {
             writeHeader(Tag.SequenceDelimitationItem, null, 0);
     }
 
+    void write(DicomObject.Fragments fragments, VR vr) throws IOException {
+        writeHeader(fragments.tag, vr, -1);
+        for (int i = 0, n = fragments.size(); i < n; i++) {
+            if (fragments.tagAt(i) != Tag.SequenceDelimitationItem) {
+                byte[] b = fragments.bytesAt(i);
+                writeHeader(Tag.Item, null, (b.length + 1) & ~1);
+                write(b);
+                if ((b.length & 1) != 0)
+                    write(0);
+            }
+        }
+        writeHeader(Tag.SequenceDelimitationItem, null, 0);
+    }
+
     private int valueLength(DicomObject.Sequence seq) {
         int length = (undefItemLength ? 16 : 8) * seq.size();
         for (int i = 0; i < seq.size(); i++) {
@@ -247,8 +261,7 @@ public class DicomOutputStream extends OutputStream  {
         }
     }
 
-    void write(long header, MemoryCache.DicomInput dicomInput) throws IOException {
-        int tag = dicomInput.tagAt(header & DicomInputStream.POSITION_HEADER_MASK);
+    void write(int tag, long header, MemoryCache.DicomInput dicomInput) throws IOException {
         VR vr = VR.fromHeader(header);
         int vlen = dicomInput.header2valueLength(header);
         writeHeader(tag, vr, vlen);
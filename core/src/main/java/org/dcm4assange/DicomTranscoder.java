@@ -0,0 +1,130 @@
+package org.dcm4assange;
+
+import org.dcm4assange.util.ToggleEndian;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * Transcodes a data set read from a {@link DicomInputStream} element by element to a {@link DicomOutputStream} with a
+ * different encoding, without building a {@link DicomObject} tree. Memory usage is independent of the size of the
+ * data set, in particular of the Pixel Data.
+ * <p>
+ * Sequences and items are written with undefined length, because their length changes if the Value Representation
+ * is added or removed. Group Length elements are dropped. Elements whose value is too long to be encoded with a
+ * 16-bit length in Explicit VR are written with Value Representation UN. As with {@link DicomEventReader}, private
+ * elements of data sets encoded in Implicit VR Little Endian are written with Value Representation UN.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public class DicomTranscoder {
+    private static final int BUFFER_SIZE = 8192;
+    private final DicomEventReader reader;
+    private byte[] buffer;
+
+    public DicomTranscoder(DicomInputStream dis) {
+        this.reader = new DicomEventReader(Objects.requireNonNull(dis));
+    }
+
+    /**
+     * Transcodes the data set of the input stream to the output stream, using the encoding of the output stream.
+     * The File Meta Information of the input stream, if present, is not copied; it has to be read before by
+     * {@link DicomInputStream#readFileMetaInformation()} and written with the Transfer Syntax UID of the target
+     * encoding by {@link DicomOutputStream#writeFileMetaInformation(DicomObject)}, if required.
+     *
+     * @param dos the output stream, whose encoding must be initialized
+     * @throws IOException if an I/O error occurs or the input stream is not a valid DICOM stream
+     */
+    public void transcode(DicomOutputStream dos) throws IOException {
+        DicomEncoding encoding = dos.encoding();
+        if (encoding == null)
+            throw new IllegalStateException("encoding not initialized");
+
+        while (reader.nextEvent() != DicomEventReader.Event.END_DATA_SET) {
+            switch (reader.event()) {
+                case ELEMENT -> {
+                    if ((reader.tag() & 0xffff) != 0) {
+                        writeElement(dos, encoding);
+                    }
+                }
+                case SEQUENCE_START, FRAGMENTS_START -> dos.writeHeader(reader.tag(), reader.vr(), -1);
+                case ITEM_START -> dos.writeHeader(Tag.Item, null, -1);
+                case ITEM_END -> dos.writeHeader(Tag.ItemDelimitationItem, null, 0);
+                case SEQUENCE_END, FRAGMENTS_END -> dos.writeHeader(Tag.SequenceDelimitationItem, null, 0);
+                case FRAGMENT -> {
+                    dos.writeHeader(Tag.Item, null, reader.valueLength());
+                    reader.transferValueTo(dos);
+                }
+            }
+        }
+    }
+
+    private void writeElement(DicomOutputStream dos, DicomEncoding encoding) throws IOException {
+        VR vr = reader.vr();
+        int valueLength = reader.valueLength();
+        dos.writeHeader(reader.tag(), vr.evr8 && (valueLength & 0xffff0000) != 0 ? VR.UN : vr, valueLength);
+        ToggleEndian toggleEndian = vr.type.toggleEndian();
+        if (toggleEndian == null || encoding.byteOrder == reader.encoding().byteOrder) {
+            reader.transferValueTo(dos);
+        } else {
+            try (ToggleEndianOutputStream out = new ToggleEndianOutputStream(dos, toggleEndian, buffer())) {
+                reader.transferValueTo(out);
+            }
+        }
+    }
+
+    private byte[] buffer() {
+        byte[] buffer = this.buffer;
+        if (buffer == null) {
+            this.buffer = buffer = new byte[BUFFER_SIZE];
+        }
+        return buffer;
+    }
+
+    private static final class ToggleEndianOutputStream extends OutputStream {
+        private final OutputStream out;
+        private final ToggleEndian toggleEndian;
+        private final byte[] buf;
+        private int count;
+
+        ToggleEndianOutputStream(OutputStream out, ToggleEndian toggleEndian, byte[] buf) {
+            this.out = out;
+            this.toggleEndian = toggleEndian;
+            this.buf = buf;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            buf[count++] = (byte) b;
+            if (count == buf.length) flushBuffer();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                int copy = Math.min(len, buf.length - count);
+                System.arraycopy(b, off, buf, count, copy);
+                count += copy;
+                off += copy;
+                len -= copy;
+                if (count == buf.length) flushBuffer();
+            }
+        }
+
+        /**
+         * Writes the remaining bytes, without closing the underlying stream.
+         */
+        @Override
+        public void close() throws IOException {
+            flushBuffer();
+        }
+
+        private void flushBuffer() throws IOException {
+            toggleEndian.apply(buf, count);
+            out.write(buf, 0, count);
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.dcm4assange;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of direct byte buffers used as off-heap blocks by the memory cache of {@link DicomInputStream}, which
+ * may be shared by several threads. Blocks are returned to the pool by {@link DicomObject#release()}.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public final class DirectBlockPool {
+    private final int blockSize;
+    private final long maxAllocatedBytes;
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final ConcurrentLinkedQueue<ByteBuffer> blocks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a pool of off-heap blocks.
+     *
+     * @param minBlockSize      minimal size of pooled blocks, rounded up to the next power of 2
+     * @param maxAllocatedBytes maximal number of bytes allocated off-heap by the pool; parsing fails with an
+     *                          {@code IOException} if more bytes are required
+     */
+    public DirectBlockPool(int minBlockSize, long maxAllocatedBytes) {
+        this.blockSize = MemoryCache.blockSizeOf(minBlockSize);
+        this.maxAllocatedBytes = maxAllocatedBytes;
+    }
+
+    public int blockSize() {
+        return blockSize;
+    }
+
+    public long maxAllocatedBytes() {
+        return maxAllocatedBytes;
+    }
+
+    public long allocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    public int pooledBlocks() {
+        return blocks.size();
+    }
+
+    ByteBuffer acquire() throws IOException {
+        ByteBuffer b = blocks.poll();
+        if (b != null) {
+            return b;
+        }
+        if (allocatedBytes.addAndGet(blockSize) > maxAllocatedBytes) {
+            allocatedBytes.addAndGet(-blockSize);
+            throw new IOException("Exceeds maximal number of bytes allocated off-heap: " + maxAllocatedBytes);
+        }
+        return ByteBuffer.allocateDirect(blockSize);
+    }
+
+    void release(ByteBuffer b) {
+        blocks.offer(b);
+    }
+}
@@ -0,0 +1,333 @@
+package org.dcm4assange;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * {@link BlockMemoryCache} holding the read bytes off-heap in direct byte buffers acquired from a
+ * {@link DirectBlockPool}, so they are neither scanned nor copied by the garbage collector. The blocks are returned
+ * to the pool by {@link #release()}.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+class DirectMemoryCache extends BlockMemoryCache {
+    private static final int BUFFER_SIZE = 8192;
+    private final DirectBlockPool pool;
+    private final ArrayList<ByteBuffer> be = new ArrayList<>();
+    private final ArrayList<ByteBuffer> le = new ArrayList<>();
+    private final byte[] buf;
+    private long limit;
+    private boolean eof;
+    private int discarded;
+
+    DirectMemoryCache(DirectBlockPool pool) {
+        super(pool.blockSize());
+        this.pool = pool;
+        this.buf = new byte[Math.min(BUFFER_SIZE, blockSize)];
+    }
+
+    @Override
+    long limit() {
+        return limit;
+    }
+
+    @Override
+    long fillFrom(InputStream in, long length) throws IOException {
+        if (eof) {
+            return Math.min(this.limit, length);
+        }
+        while (this.limit < length) {
+            ByteBuffer b = addBlock();
+            int read = read(in, b, 0);
+            this.limit += read;
+            if (eof = read < blockSize) {
+                return Math.min(this.limit, length);
+            }
+        }
+        return length;
+    }
+
+    @Override
+    public void skipFrom(InputStream in, long pos, long len, OutputStream out) throws IOException {
+        if (len <= 0) return;
+        int skip = (int) (pos + len - limit);
+        long pos1 = pos - skippedBytes(pos);
+        if (out != null) {
+            writeTo(pos1, skip > 0 ? len - skip : len, out);
+        }
+        if (skip > 0) {
+            if (eof)
+                throw new EOFException();
+
+            if (out == null)
+                skipAll(in, skip);
+            else
+                transferTo(in, out, skip);
+
+            limit += skip;
+        } else if (skip < 0) {
+            pos1 = copyWithin(pos1 + len, pos1, -skip);
+        }
+        int index = blockIndex(pos1);
+        ByteBuffer b = index < discarded + be.size() ? block(index) : addBlock();
+        int off = blockOffset(pos1);
+        while (discarded + be.size() > index + 1) {
+            le.remove(le.size() - 1);
+            pool.release(be.remove(be.size() - 1));
+        }
+        if (!eof) {
+            int read = read(in, b, off);
+            eof = off + read < blockSize;
+            this.limit += read;
+        }
+        addSkipped(pos, len);
+    }
+
+    @Override
+    void release() {
+        for (ByteBuffer b : be) {
+            pool.release(b);
+        }
+        be.clear();
+        le.clear();
+        discarded = 0;
+        clearSkipped();
+        limit = 0L;
+        eof = true;
+    }
+
+    @Override
+    void discardBefore(long pos) {
+        int end = Math.min(blockIndex(pos - skippedBytes(pos)), discarded + be.size());
+        if (end <= discarded) return;
+        List<ByteBuffer> head = be.subList(0, end - discarded);
+        for (ByteBuffer b : head) pool.release(b);
+        head.clear();
+        le.subList(0, end - discarded).clear();
+        discarded = end;
+        discardSkippedBefore(pos);
+    }
+
+    private ByteBuffer block(int index) {
+        return be.get(index - discarded);
+    }
+
+    private ByteBuffer addBlock() throws IOException {
+        ByteBuffer b = pool.acquire();
+        be.add(b);
+        le.add(b.duplicate().order(java.nio.ByteOrder.LITTLE_ENDIAN));
+        return b;
+    }
+
+    @Override
+    byte byteAt(long pos) {
+        return byteAt0(pos - skippedBytes(pos));
+    }
+
+    @Override
+    short shortAt(long pos, ByteOrder byteOrder) {
+        pos -= skippedBytes(pos);
+        int offset = blockOffset(pos);
+        return (offset + 1 < blockSize)
+                ? block(pos, byteOrder).getShort(offset)
+                : byteOrder.bytesToShort(byteAt0(pos), byteAt0(pos + 1));
+    }
+
+    @Override
+    int intAt(long pos, ByteOrder byteOrder) {
+        pos -= skippedBytes(pos);
+        int offset = blockOffset(pos);
+        return (offset + 3 < blockSize)
+                ? block(pos, byteOrder).getInt(offset)
+                : byteOrder.bytesToInt(byteAt0(pos), byteAt0(pos + 1), byteAt0(pos + 2), byteAt0(pos + 3));
+    }
+
+    @Override
+    int tagAt(long pos, ByteOrder byteOrder) {
+        pos -= skippedBytes(pos);
+        int offset = blockOffset(pos);
+        if (offset + 3 >= blockSize)
+            return byteOrder.bytesToTag(byteAt0(pos), byteAt0(pos + 1), byteAt0(pos + 2), byteAt0(pos + 3));
+
+        ByteBuffer b = block(pos, byteOrder);
+        return byteOrder == ByteOrder.BIG_ENDIAN
+                ? b.getInt(offset)
+                : (b.getShort(offset) << 16) | (b.getShort(offset + 2) & 0xffff);
+    }
+
+    @Override
+    long longAt(long pos, ByteOrder byteOrder) {
+        pos -= skippedBytes(pos);
+        int offset = blockOffset(pos);
+        return (offset + 7 < blockSize)
+                ? block(pos, byteOrder).getLong(offset)
+                : byteOrder.bytesToLong(byteAt0(pos), byteAt0(pos + 1), byteAt0(pos + 2), byteAt0(pos + 3),
+                                byteAt0(pos + 4), byteAt0(pos + 5), byteAt0(pos + 6), byteAt0(pos + 7));
+    }
+
+    @Override
+    String stringAt(long pos, int length, SpecificCharacterSet cs) {
+        return cs.decode(bytesAt(pos, length), 0, length);
+    }
+
+    @Override
+    byte[] bytesAt(long pos, int length) {
+        byte[] dest = new byte[length];
+        copyBytesTo0(pos - skippedBytes(pos), dest, 0, length);
+        return dest;
+    }
+
+    @Override
+    boolean testBytes(long pos, int length, BytePredicate predicate) {
+        return predicate.test(bytesAt(pos, length), 0, length);
+    }
+
+    @Override
+    long parseBytes(long pos, int length, ByteParser parser) {
+        return parser.parse(bytesAt(pos, length), 0, length);
+    }
+
+    @Override
+    long parseBytes(long pos, int length, int index, IndexedByteParser parser) {
+        return parser.parse(bytesAt(pos, length), 0, length, index);
+    }
+
+    @Override
+    void forEachChunk(long pos, int length, int unit, ChunkConsumer consumer) {
+        consumer.accept(bytesAt(pos, length), 0, length);
+    }
+
+    @Override
+    int hashCode(long pos, int length) {
+        return hashCode(bytesAt(pos, length), 0, length);
+    }
+
+    @Override
+    void copyBytesTo(long pos, byte[] dest, int destPos, int length) {
+        copyBytesTo0(pos - skippedBytes(pos), dest, destPos, length);
+    }
+
+    @Override
+    boolean regionMatches(long pos, byte[] b, int off, int length) {
+        pos -= skippedBytes(pos);
+        while (length > 0) {
+            int srcPos = blockOffset(pos);
+            int n = Math.min(length, blockSize - srcPos);
+            if (!block(blockIndex(pos)).slice(srcPos, n).equals(ByteBuffer.wrap(b, off, n)))
+                return false;
+            pos += n;
+            off += n;
+            length -= n;
+        }
+        return true;
+    }
+
+    @Override
+    boolean regionMatches(long pos, MemoryCache other, long otherPos, int length) {
+        return regionMatchesBuffered(pos, other, otherPos, length, BUFFER_SIZE);
+    }
+
+    private void copyBytesTo0(long pos, byte[] dest, int destPos, int length) {
+        while (length > 0) {
+            ByteBuffer src = block(blockIndex(pos));
+            int srcPos = blockOffset(pos);
+            int copy = Math.min(length, blockSize - srcPos);
+            src.get(srcPos, dest, destPos, copy);
+            pos += copy;
+            destPos += copy;
+            length -= copy;
+        }
+    }
+
+    @Override
+    void writeBytesTo(long pos, int length, OutputStream out) throws IOException {
+        writeTo(pos - skippedBytes(pos), length, out);
+    }
+
+    @Override
+    InputStream inflate(InputStream in, long pos) throws IOException {
+        if (fillFrom(in, pos + 2) != pos + 2)
+            throw new EOFException();
+
+        int size = (int) (limit - pos);
+        PushbackInputStream pushbackInputStream = new PushbackInputStream(in, size);
+        long pos1 = pos - skippedBytes(pos);
+        ByteBuffer b = block(blockIndex(pos1));
+        int offset = blockOffset(pos1);
+        byte[] cached = new byte[size];
+        b.get(offset, cached);
+        pushbackInputStream.unread(cached);
+        InflaterInputStream inflaterInputStream = new InflaterInputStream(pushbackInputStream,
+                new Inflater(cached[0] != 120 || cached[1] != -100));
+        int read = read(inflaterInputStream, b, offset);
+        eof = offset + read < blockSize;
+        limit = pos + read;
+        return inflaterInputStream;
+    }
+
+    private ByteBuffer block(long pos, ByteOrder byteOrder) {
+        return (byteOrder == ByteOrder.BIG_ENDIAN ? be : le).get(blockIndex(pos) - discarded);
+    }
+
+    private byte byteAt0(long pos) {
+        return block(blockIndex(pos)).get(blockOffset(pos));
+    }
+
+    private int read(InputStream in, ByteBuffer b, int off) throws IOException {
+        int read = 0;
+        while (off < blockSize) {
+            int len = Math.min(buf.length, blockSize - off);
+            int n = in.readNBytes(buf, 0, len);
+            b.put(off, buf, 0, n);
+            off += n;
+            read += n;
+            if (n < len) break;
+        }
+        return read;
+    }
+
+    private void writeTo(long pos, long len, OutputStream out) throws IOException {
+        byte[] b = new byte[(int) Math.min(BUFFER_SIZE, len)];
+        while (len > 0) {
+            int copy = (int) Math.min(b.length, len);
+            copyBytesTo0(pos, b, 0, copy);
+            out.write(b, 0, copy);
+            pos += copy;
+            len -= copy;
+        }
+    }
+
+    private long copyWithin(long srcPos, long destPos, int len) {
+        while (len > 0) {
+            int copy = Math.min(buf.length, len);
+            copyBytesTo0(srcPos, buf, 0, copy);
+            putBytes(destPos, buf, copy);
+            srcPos += copy;
+            destPos += copy;
+            len -= copy;
+        }
+        return destPos;
+    }
+
+    private void putBytes(long pos, byte[] src, int length) {
+        int srcPos = 0;
+        while (length > 0) {
+            ByteBuffer dest = block(blockIndex(pos));
+            int destPos = blockOffset(pos);
+            int copy = Math.min(length, blockSize - destPos);
+            dest.put(destPos, src, srcPos, copy);
+            pos += copy;
+            srcPos += copy;
+            length -= copy;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package org.dcm4assange;
+
+import org.dcm4assange.util.OptionalFloat;
+import org.dcm4assange.util.StringUtils;
+import org.dcm4assange.util.TagUtils;
+
+import java.util.*;
+
+/**
+ * Immutable snapshot of a {@link DicomObject} created by {@link DicomObject#freeze()}, optimized for concurrent reads.
+ * <p>
+ * Tags and Value Representations are held in arrays indexed in ascending unsigned tag order. All values are decoded
+ * on creation: string values to {@code String[]}, binary values to {@code byte[]} in Little Endian byte order, items
+ * of sequences to {@code FrozenDicomObject}s and fragments of encapsulated Pixel Data to {@code byte[][]}. Bulk data
+ * not read from the stream is referenced by its Bulk Data URI. All fields are final and values are never modified, so
+ * instances can be shared by threads without synchronization.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public final class FrozenDicomObject {
+    private static final List<FrozenDicomObject> EMPTY_SEQUENCE = List.of();
+    private final int[] tags;
+    private final VR[] vrs;
+    private final Object[] values;
+
+    FrozenDicomObject(DicomObject dcmobj) {
+        int size = dcmobj.size();
+        this.tags = new int[size];
+        this.vrs = new VR[size];
+        this.values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            long header = dcmobj.headers[i];
+            VR vr = VR.fromHeader(header);
+            tags[i] = dcmobj.tags[i];
+            vrs[i] = vr;
+            values[i] = freezeValue(dcmobj, i, header, vr);
+        }
+    }
+
+    private static Object freezeValue(DicomObject dcmobj, int i, long header, VR vr) {
+        Object value = dcmobj.values[i];
+        if (value instanceof DicomObject.Sequence seq) {
+            FrozenDicomObject[] items = new FrozenDicomObject[seq.size()];
+            for (int j = 0; j < items.length; j++) {
+                items[j] = new FrozenDicomObject(seq.getItem(j));
+            }
+            return List.of(items);
+        }
+        if (value instanceof DicomObject.Fragments fragments) {
+            int n = fragments.size();
+            if (n > 0 && fragments.tagAt(n - 1) == Tag.SequenceDelimitationItem) n--;
+            byte[][] b = new byte[n][];
+            for (int j = 0; j < b.length; j++) {
+                b[j] = fragments.bytesAt(j);
+            }
+            return b;
+        }
+        if (value instanceof String bulkDataURI) {
+            return bulkDataURI;
+        }
+        if (vr == VR.SQ) {
+            return EMPTY_SEQUENCE;
+        }
+        if (vr.type instanceof StringVR) {
+            return vr.type.stringValues(dcmobj, i).clone();
+        }
+        if (value instanceof byte[] b) {
+            return b.clone();
+        }
+        byte[] b = dcmobj.dicomInput.cache().bytesAt(
+                DicomObject.header2valuePosition(header), dcmobj.header2valueLength(header));
+        if (dcmobj.dicomInput.encoding.byteOrder == ByteOrder.BIG_ENDIAN && vr.type.toggleEndian() != null) {
+            vr.type.toggleEndian().apply(b, b.length);
+        }
+        return b;
+    }
+
+    public int size() {
+        return tags.length;
+    }
+
+    public boolean isEmpty() {
+        return tags.length == 0;
+    }
+
+    public boolean contains(int tag) {
+        return indexOf(tag) >= 0;
+    }
+
+    public boolean containsValue(int tag) {
+        int i = indexOf(tag);
+        return i >= 0 && !isEmpty(values[i]);
+    }
+
+    public Optional<VR> getVR(int tag) {
+        int i = indexOf(tag);
+        return i >= 0 ? Optional.of(vrs[i]) : Optional.empty();
+    }
+
+    public Optional<String> privateCreatorOf(int tag) {
+        return TagUtils.isPrivateTag(tag)
+                ? getString(TagUtils.creatorTagOf(tag))
+                : Optional.empty();
+    }
+
+    public OptionalInt getInt(int tag, int index) {
+        int i = indexOf(tag);
+        if (i >= 0) {
+            if (values[i] instanceof byte[] b)
+                return vrs[i].type.intValue(b, index);
+            if (values[i] instanceof String[] ss)
+                return vrs[i].type.intValue(ss, index);
+        }
+        return OptionalInt.empty();
+    }
+
+    public OptionalInt getInt(int tag) {
+        return getInt(tag, 0);
+    }
+
+    public int getIntOrElseThrow(int tag) {
+        return getInt(tag).orElseThrow(() -> missing(tag));
+    }
+
+    public OptionalLong getLong(int tag, int index) {
+        int i = indexOf(tag);
+        return i >= 0 && values[i] instanceof byte[] b
+                ? vrs[i].type.longValue(b, index)
+                : OptionalLong.empty();
+    }
+
+    public OptionalLong getLong(int tag) {
+        return getLong(tag, 0);
+    }
+
+    public long getLongOrElseThrow(int tag) {
+        return getLong(tag).orElseThrow(() -> missing(tag));
+    }
+
+    public OptionalFloat getFloat(int tag, int index) {
+        int i = indexOf(tag);
+        if (i >= 0) {
+            if (values[i] instanceof byte[] b)
+                return vrs[i].type.floatValue(b, index);
+            if (values[i] instanceof String[] ss)
+                return vrs[i].type.floatValue(ss, index);
+        }
+        return OptionalFloat.empty();
+    }
+
+    public OptionalFloat getFloat(int tag) {
+        return getFloat(tag, 0);
+    }
+
+    public float getFloatOrElseThrow(int tag) {
+        return getFloat(tag).orElseThrow(() -> missing(tag));
+    }
+
+    public OptionalDouble getDouble(int tag, int index) {
+        int i = indexOf(tag);
+        if (i >= 0) {
+            if (values[i] instanceof byte[] b)
+                return vrs[i].type.doubleValue(b, index);
+            if (values[i] instanceof String[] ss)
+                return vrs[i].type.doubleValue(ss, index);
+        }
+        return OptionalDouble.empty();
+    }
+
+    public OptionalDouble getDouble(int tag) {
+        return getDouble(tag, 0);
+    }
+
+    public double getDoubleOrElseThrow(int tag) {
+        return getDouble(tag).orElseThrow(() -> missing(tag));
+    }
+
+    public Optional<String> getString(int tag, int index) {
+        int i = indexOf(tag);
+        if (i >= 0) {
+            if (values[i] instanceof String[] ss)
+                return ss.length > index ? Optional.of(ss[index]) : Optional.empty();
+            if (values[i] instanceof byte[] b)
+                return vrs[i].type.stringValue(b, index);
+        }
+        return Optional.empty();
+    }
+
+    public Optional<String> getString(int tag) {
+        return getString(tag, 0);
+    }
+
+    public String getStringOrElseThrow(int tag) {
+        return getString(tag).orElseThrow(() -> missing(tag));
+    }
+
+    public String[] getStrings(int tag) {
+        int i = indexOf(tag);
+        return i >= 0 && values[i] instanceof String[] ss && ss.length > 0
+                ? ss.clone()
+                : StringUtils.EMPTY_STRINGS;
+    }
+
+    /**
+     * Returns a copy of the binary value of the element in Little Endian byte order.
+     *
+     * @param tag tag of the element
+     * @return copy of the binary value
+     */
+    public Optional<byte[]> getBytes(int tag) {
+        int i = indexOf(tag);
+        return i >= 0 && values[i] instanceof byte[] b
+                ? Optional.of(b.clone())
+                : Optional.empty();
+    }
+
+    public Optional<String> getBulkDataURI(int tag) {
+        int i = indexOf(tag);
+        return i >= 0 && values[i] instanceof String s
+                ? Optional.of(s)
+                : Optional.empty();
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<List<FrozenDicomObject>> getSequence(int tag) {
+        int i = indexOf(tag);
+        return i >= 0 && values[i] instanceof List<?> items
+                ? Optional.of((List<FrozenDicomObject>) items)
+                : Optional.empty();
+    }
+
+    public Optional<FrozenDicomObject> getItem(int tag) {
+        return getSequence(tag).filter(items -> !items.isEmpty()).map(items -> items.get(0));
+    }
+
+    public int getNumberOfFragments(int tag) {
+        int i = indexOf(tag);
+        return i >= 0 && values[i] instanceof byte[][] fragments ? fragments.length : 0;
+    }
+
+    /**
+     * Returns a copy of a fragment of the encapsulated Pixel Data or other element with Value Representation OB
+     * encoded with undefined length.
+     *
+     * @param tag   tag of the element
+     * @param index index of the fragment, starting with 0 for the Basic Offset Table
+     * @return copy of the fragment
+     */
+    public Optional<byte[]> getFragment(int tag, int index) {
+        int i = indexOf(tag);
+        return i >= 0 && values[i] instanceof byte[][] fragments && fragments.length > index
+                ? Optional.of(fragments[index].clone())
+                : Optional.empty();
+    }
+
+    private int indexOf(int tag) {
+        int[] tags = this.tags;
+        int high = tags.length - 1;
+        if (high >= 0 && Integer.compareUnsigned(tags[high], tag) < 0)
+            return -(high + 2);
+        int low = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Integer.compareUnsigned(tags[mid], tag);
+            if (cmp < 0)
+                low = mid + 1;
+            else if (cmp > 0)
+                high = mid - 1;
+            else
+                return mid; // tag found
+        }
+        return -(low + 1);  // tag not found
+    }
+
+    private static boolean isEmpty(Object value) {
+        return value instanceof byte[] b ? b.length == 0
+                : value instanceof String[] ss ? ss.length == 0
+                : value instanceof List<?> items ? items.isEmpty()
+                : value instanceof byte[][] fragments ? fragments.length == 0
+                : value == null;
+    }
+
+    private static NoSuchElementException missing(int tag) {
+        return new NoSuchElementException("Missing "
+                + ElementDictionary.keywordOf(tag) + ' '
+                + TagUtils.toString(tag));
+    }
+}
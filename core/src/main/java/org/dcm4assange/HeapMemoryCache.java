@@ -0,0 +1,421 @@
+package org.dcm4assange;
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * {@link BlockMemoryCache} holding the read bytes in heap allocated blocks, optionally acquired from a
+ * {@link BlockPool}.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Mar 2021
+ */
+class HeapMemoryCache extends BlockMemoryCache {
+    private final BlockPool pool;
+    private final ArrayList<byte[]> blocks = new ArrayList<>();
+    private long limit;
+    private boolean eof;
+    private int discarded;
+
+    HeapMemoryCache(int minBlockSize) {
+        this(minBlockSize, null);
+    }
+
+    HeapMemoryCache(BlockPool pool) {
+        this(pool.blockSize(), pool);
+    }
+
+    private HeapMemoryCache(int minBlockSize, BlockPool pool) {
+        super(minBlockSize);
+        this.pool = pool;
+    }
+
+    @Override
+    long limit() {
+        return limit;
+    }
+
+    @Override
+    long fillFrom(InputStream in, long length) throws IOException {
+        if (eof) {
+            return Math.min(this.limit, length);
+        }
+        while (this.limit < length) {
+            byte[] buf = addBlock();
+            int read = in.readNBytes(buf, 0, buf.length);
+            this.limit += read;
+            if (eof = read < buf.length) {
+                return Math.min(this.limit, length);
+            }
+        }
+        return length;
+    }
+
+    @Override
+    public void skipFrom(InputStream in, long pos, long len, OutputStream out) throws IOException {
+        if (len <= 0) return;
+        int skip = (int) (pos + len - limit);
+        long pos1 = pos - skippedBytes(pos);
+        if (out != null) {
+            writeTo(out, pos1, skip > 0 ? len - skip : len);
+        }
+        if (skip > 0) {
+            if (eof)
+                throw new EOFException();
+
+            if (out == null)
+                skipAll(in, skip);
+            else
+                transferTo(in, out, skip);
+
+            limit += skip;
+        } else if (skip < 0) {
+            pos1 = arraycopy(pos1 + len, pos1, -skip);
+        }
+        int index = blockIndex(pos1);
+        byte[] b = index < discarded + blocks.size() ? block(index) : addBlock();
+        int off = blockOffset(pos1);
+        while (discarded + blocks.size() > index + 1) {
+            byte[] removed = blocks.remove(blocks.size() - 1);
+            if (pool != null) pool.release(removed);
+        }
+        if (!eof) {
+            int read = in.readNBytes(b, off, b.length - off);
+            eof = off + read < b.length;
+            this.limit += read;
+        }
+        addSkipped(pos, len);
+    }
+
+    /**
+     * Returns all blocks to the {@link BlockPool}, if this cache was created with one. The cache must not be accessed
+     * afterwards.
+     */
+    @Override
+    void release() {
+        if (pool != null) {
+            for (byte[] b : blocks) {
+                pool.release(b);
+            }
+        }
+        blocks.clear();
+        discarded = 0;
+        clearSkipped();
+        limit = 0L;
+        eof = true;
+    }
+
+    @Override
+    void discardBefore(long pos) {
+        int end = Math.min(blockIndex(pos - skippedBytes(pos)), discarded + blocks.size());
+        if (end <= discarded) return;
+        List<byte[]> head = blocks.subList(0, end - discarded);
+        if (pool != null) {
+            for (byte[] b : head) pool.release(b);
+        }
+        head.clear();
+        discarded = end;
+        discardSkippedBefore(pos);
+    }
+
+    private byte[] block(int index) {
+        return blocks.get(index - discarded);
+    }
+
+    private byte[] addBlock() {
+        byte[] b = pool != null ? pool.acquire() : new byte[blockSize];
+        blocks.add(b);
+        return b;
+    }
+
+    private void writeTo(OutputStream out, long pos, long len) throws IOException {
+        while (len > 0) {
+            byte[] b = block(blockIndex(pos));
+            int off = blockOffset(pos);
+            int write = (int) Math.min(b.length - off, len);
+            out.write(b, off, write);
+            pos += write;
+            len -= write;
+        }
+    }
+
+    private long arraycopy(long srcPos, long destPos, int len) {
+        while (len > 0) {
+            byte[] src = block(blockIndex(srcPos));
+            int srcOff = blockOffset(srcPos);
+            byte[] dest = block(blockIndex(destPos));
+            int destOff = blockOffset(destPos);
+            int copy = Math.min(Math.min(src.length - srcOff, dest.length - destOff), len);
+            System.arraycopy(src, srcOff, dest, destOff, copy);
+            srcPos += copy;
+            destPos += copy;
+            len -= copy;
+        }
+        return destPos;
+    }
+
+    @Override
+    byte byteAt(long pos) {
+        pos -= skippedBytes(pos);
+        byte[] b = block(blockIndex(pos));
+        return b[blockOffset(pos)];
+    }
+
+    @Override
+    short shortAt(long pos, ByteOrder byteOrder) {
+        pos -= skippedBytes(pos);
+        int i = blockIndex(pos);
+        byte[] b = block(i);
+        int offset = blockOffset(pos);
+        if (offset + 1 < b.length)
+            return byteOrder.bytesToShort(b, offset);
+
+        byte[] next = block(i + 1);
+        return byteOrder.bytesToShort(b[offset], next[0]);
+    }
+
+    @Override
+    int intAt(long pos, ByteOrder byteOrder) {
+        pos -= skippedBytes(pos);
+        int i = blockIndex(pos);
+        byte[] b = block(i);
+        int offset = blockOffset(pos);
+        if (offset + 3 < b.length)
+            return byteOrder.bytesToInt(b, offset);
+
+        byte[] next = block(i + 1);
+        return byteOrder.bytesToInt(byteAt(b, next, offset), byteAt(b, next, offset + 1),
+                byteAt(b, next, offset + 2), byteAt(b, next, offset + 3));
+    }
+
+    @Override
+    int tagAt(long pos, ByteOrder byteOrder) {
+        pos -= skippedBytes(pos);
+        int i = blockIndex(pos);
+        byte[] b = block(i);
+        int offset = blockOffset(pos);
+        if (offset + 3 < b.length)
+            return byteOrder.bytesToTag(b, offset);
+
+        byte[] next = block(i + 1);
+        return byteOrder.bytesToTag(byteAt(b, next, offset), byteAt(b, next, offset + 1),
+                byteAt(b, next, offset + 2), byteAt(b, next, offset + 3));
+    }
+
+    @Override
+    long longAt(long pos, ByteOrder byteOrder) {
+        pos -= skippedBytes(pos);
+        int i = blockIndex(pos);
+        byte[] b = block(i);
+        int offset = blockOffset(pos);
+        if (offset + 7 < b.length)
+            return byteOrder.bytesToLong(b, offset);
+
+        byte[] next = block(i + 1);
+        return byteOrder.bytesToLong(byteAt(b, next, offset), byteAt(b, next, offset + 1),
+                byteAt(b, next, offset + 2), byteAt(b, next, offset + 3),
+                byteAt(b, next, offset + 4), byteAt(b, next, offset + 5),
+                byteAt(b, next, offset + 6), byteAt(b, next, offset + 7));
+    }
+
+    private static byte byteAt(byte[] b, byte[] next, int offset) {
+        return offset < b.length ? b[offset] : next[offset - b.length];
+    }
+
+    @Override
+    String stringAt(long pos, int length, SpecificCharacterSet cs) {
+        pos -= skippedBytes(pos);
+        byte[] b = block(blockIndex(pos));
+        int offset = blockOffset(pos);
+        return (offset + length <= b.length)
+                ? cs.decode(b, offset, length)
+                : cs.decode(bytesAt0(pos, length), 0, length);
+    }
+
+    @Override
+    byte[] bytesAt(long pos, int length) {
+        pos -= skippedBytes(pos);
+        return bytesAt0(pos, length);
+    }
+
+    @Override
+    boolean testBytes(long pos, int length, BytePredicate predicate) {
+        if (length == 0)
+            return predicate.test(ByteOrder.EMPTY_BYTES, 0, 0);
+
+        pos -= skippedBytes(pos);
+        byte[] b = block(blockIndex(pos));
+        int offset = blockOffset(pos);
+        return (offset + length <= b.length)
+                ? predicate.test(b, offset, length)
+                : predicate.test(bytesAt0(pos, length), 0, length);
+    }
+
+    @Override
+    long parseBytes(long pos, int length, ByteParser parser) {
+        if (length == 0)
+            return parser.parse(ByteOrder.EMPTY_BYTES, 0, 0);
+
+        pos -= skippedBytes(pos);
+        byte[] b = block(blockIndex(pos));
+        int offset = blockOffset(pos);
+        return (offset + length <= b.length)
+                ? parser.parse(b, offset, length)
+                : parser.parse(bytesAt0(pos, length), 0, length);
+    }
+
+    @Override
+    long parseBytes(long pos, int length, int index, IndexedByteParser parser) {
+        if (length == 0)
+            return parser.parse(ByteOrder.EMPTY_BYTES, 0, 0, index);
+
+        pos -= skippedBytes(pos);
+        byte[] b = block(blockIndex(pos));
+        int offset = blockOffset(pos);
+        return (offset + length <= b.length)
+                ? parser.parse(b, offset, length, index)
+                : parser.parse(bytesAt0(pos, length), 0, length, index);
+    }
+
+    @Override
+    void forEachChunk(long pos, int length, int unit, ChunkConsumer consumer) {
+        pos -= skippedBytes(pos);
+        while (length > 0) {
+            byte[] b = block(blockIndex(pos));
+            int offset = blockOffset(pos);
+            int n = Math.min(length, b.length - offset);
+            if ((n -= n % unit) > 0) {
+                consumer.accept(b, offset, n);
+            } else {
+                n = unit;
+                consumer.accept(bytesAt0(pos, n), 0, n);
+            }
+            pos += n;
+            length -= n;
+        }
+    }
+
+    private byte[] bytesAt0(long pos, int length) {
+        byte[] dest = new byte[length];
+        copyBytesTo0(pos, dest, 0, length);
+        return dest;
+    }
+
+    @Override
+    void copyBytesTo(long pos, byte[] dest, int destPos, int length) {
+        copyBytesTo0(pos - skippedBytes(pos), dest, destPos, length);
+    }
+
+    private void copyBytesTo0(long pos, byte[] dest, int destPos, int length) {
+        int i = blockIndex(pos);
+        byte[] src = block(i);
+        int srcPos = blockOffset(pos);
+        int copy =  Math.min(length, src.length - srcPos);
+        System.arraycopy(src, srcPos, dest, destPos, copy);
+        int remaining = length;
+        while ((remaining -= copy) > 0) {
+            destPos += copy;
+            src = block(++i);
+            copy = Math.min(remaining, src.length);
+            System.arraycopy(src, 0, dest, destPos, copy);
+        }
+    }
+
+    @Override
+    int hashCode(long pos, int length) {
+        pos -= skippedBytes(pos);
+        int i = blockIndex(pos);
+        int srcPos = blockOffset(pos);
+        int h = 1;
+        while (length > 0) {
+            byte[] src = block(i++);
+            int end = Math.min(src.length, srcPos + length);
+            length -= end - srcPos;
+            while (srcPos < end) {
+                h = 31 * h + src[srcPos++];
+            }
+            srcPos = 0;
+        }
+        return h;
+    }
+
+    @Override
+    boolean regionMatches(long pos, byte[] b, int off, int length) {
+        if (length == 0) {
+            return true;
+        }
+        pos -= skippedBytes(pos);
+        int i = blockIndex(pos);
+        int srcPos = blockOffset(pos);
+        while (length > 0) {
+            byte[] src = block(i++);
+            int n = Math.min(length, src.length - srcPos);
+            if (!Arrays.equals(src, srcPos, srcPos + n, b, off, off + n))
+                return false;
+            off += n;
+            length -= n;
+            srcPos = 0;
+        }
+        return true;
+    }
+
+    @Override
+    boolean regionMatches(long pos, MemoryCache other, long otherPos, int length) {
+        if (length == 0) {
+            return true;
+        }
+        pos -= skippedBytes(pos);
+        int i = blockIndex(pos);
+        int srcPos = blockOffset(pos);
+        while (length > 0) {
+            byte[] src = block(i++);
+            int n = Math.min(length, src.length - srcPos);
+            if (!other.regionMatches(otherPos, src, srcPos, n))
+                return false;
+            otherPos += n;
+            length -= n;
+            srcPos = 0;
+        }
+        return true;
+    }
+
+    @Override
+    void writeBytesTo(long pos, int length, OutputStream out) throws IOException {
+        if (length == 0) {
+            return;
+        }
+        pos -= skippedBytes(pos);
+        int i = blockIndex(pos);
+        byte[] src = block(i);
+        int srcPos = blockOffset(pos);
+        int rlen = Math.min(length, src.length - srcPos);
+        out.write(src, srcPos, rlen);
+        int remaining = length;
+        while ((remaining -= rlen) > 0L) {
+            src = block(++i);
+            rlen = Math.min(remaining, src.length);
+            out.write(src, 0, rlen);
+        }
+    }
+
+    @Override
+    InputStream inflate(InputStream in, long pos) throws IOException {
+        if (fillFrom(in, pos + 2) != pos + 2)
+            throw new EOFException();
+
+        int size = (int) (limit - pos);
+        PushbackInputStream pushbackInputStream = new PushbackInputStream(in, size);
+        long pos1 = pos - skippedBytes(pos);
+        byte[] b = block(blockIndex(pos1));
+        int offset = blockOffset(pos1);
+        pushbackInputStream.unread(b, offset, size);
+        InflaterInputStream inflaterInputStream = new InflaterInputStream(pushbackInputStream,
+                new Inflater(b[offset] != 120 || b[offset+1] != -100));
+        int read = inflaterInputStream.readNBytes(b, offset, b.length - offset);
+        eof = offset + read < b.length;
+        limit = pos + read;
+        return inflaterInputStream;
+    }
+}
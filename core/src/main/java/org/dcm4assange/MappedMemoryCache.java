@@ -0,0 +1,297 @@
+package org.dcm4assange;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * {@link MemoryCache} serving values directly from a memory-mapped file instead of copying the file content into
+ * heap allocated blocks. Only the inflated remainder of a Deflated Explicit VR Little Endian encoded file is cached
+ * on the heap.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+class MappedMemoryCache extends MemoryCache {
+    private static final int CHUNK_SIZE_BITS = 30;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SIZE_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int BUFFER_SIZE = 8192;
+    private final long size;
+    private final ByteBuffer[] le;
+    private final ByteBuffer[] be;
+    private long inflatedPos = Long.MAX_VALUE;
+    private MemoryCache inflated;
+
+    MappedMemoryCache(FileChannel channel) throws IOException {
+        this.size = channel.size();
+        int n = (int) ((size + CHUNK_MASK) >>> CHUNK_SIZE_BITS);
+        this.le = new ByteBuffer[n];
+        this.be = new ByteBuffer[n];
+        for (int i = 0; i < n; i++) {
+            long pos = (long) i << CHUNK_SIZE_BITS;
+            ByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(CHUNK_SIZE, size - pos));
+            le[i] = chunk.duplicate().order(java.nio.ByteOrder.LITTLE_ENDIAN);
+            be[i] = chunk.order(java.nio.ByteOrder.BIG_ENDIAN);
+        }
+    }
+
+    @Override
+    long limit() {
+        return inflated != null ? inflatedPos + inflated.limit() : size;
+    }
+
+    @Override
+    long fillFrom(InputStream in, long length) throws IOException {
+        if (length <= inflatedPos) {
+            return Math.min(size, length);
+        }
+        return inflatedPos + inflated.fillFrom(in, length - inflatedPos);
+    }
+
+    @Override
+    public void skipFrom(InputStream in, long pos, long len, OutputStream out) throws IOException {
+        if (len <= 0) return;
+        if (pos >= inflatedPos) {
+            inflated.skipFrom(in, pos - inflatedPos, len, out);
+            return;
+        }
+        if (pos + len > size)
+            throw new EOFException();
+
+        if (out != null) {
+            writeMappedBytesTo(pos, len, out);
+        }
+    }
+
+    @Override
+    void release() {
+        if (inflated != null) {
+            inflated.release();
+        }
+    }
+
+    @Override
+    void discardBefore(long pos) {
+        if (pos > inflatedPos) {
+            inflated.discardBefore(pos - inflatedPos);
+        }
+    }
+
+    @Override
+    byte byteAt(long pos) {
+        return pos >= inflatedPos
+                ? inflated.byteAt(pos - inflatedPos)
+                : be[chunkIndex(pos)].get(chunkOffset(pos));
+    }
+
+    @Override
+    short shortAt(long pos, ByteOrder byteOrder) {
+        if (pos >= inflatedPos)
+            return inflated.shortAt(pos - inflatedPos, byteOrder);
+
+        int offset = chunkOffset(pos);
+        return (offset + 1 < CHUNK_SIZE)
+                ? chunk(pos, byteOrder).getShort(offset)
+                : byteOrder.bytesToShort(byteAt(pos), byteAt(pos + 1));
+    }
+
+    @Override
+    int intAt(long pos, ByteOrder byteOrder) {
+        if (pos >= inflatedPos)
+            return inflated.intAt(pos - inflatedPos, byteOrder);
+
+        int offset = chunkOffset(pos);
+        return (offset + 3 < CHUNK_SIZE)
+                ? chunk(pos, byteOrder).getInt(offset)
+                : byteOrder.bytesToInt(byteAt(pos), byteAt(pos + 1), byteAt(pos + 2), byteAt(pos + 3));
+    }
+
+    @Override
+    int tagAt(long pos, ByteOrder byteOrder) {
+        if (pos >= inflatedPos)
+            return inflated.tagAt(pos - inflatedPos, byteOrder);
+
+        int offset = chunkOffset(pos);
+        if (offset + 3 >= CHUNK_SIZE)
+            return byteOrder.bytesToTag(byteAt(pos), byteAt(pos + 1), byteAt(pos + 2), byteAt(pos + 3));
+
+        ByteBuffer chunk = chunk(pos, byteOrder);
+        return byteOrder == ByteOrder.BIG_ENDIAN
+                ? chunk.getInt(offset)
+                : (chunk.getShort(offset) << 16) | (chunk.getShort(offset + 2) & 0xffff);
+    }
+
+    @Override
+    long longAt(long pos, ByteOrder byteOrder) {
+        if (pos >= inflatedPos)
+            return inflated.longAt(pos - inflatedPos, byteOrder);
+
+        int offset = chunkOffset(pos);
+        return (offset + 7 < CHUNK_SIZE)
+                ? chunk(pos, byteOrder).getLong(offset)
+                : byteOrder.bytesToLong(byteAt(pos), byteAt(pos + 1), byteAt(pos + 2), byteAt(pos + 3),
+                                byteAt(pos + 4), byteAt(pos + 5), byteAt(pos + 6), byteAt(pos + 7));
+    }
+
+    @Override
+    String stringAt(long pos, int length, SpecificCharacterSet cs) {
+        return pos >= inflatedPos
+                ? inflated.stringAt(pos - inflatedPos, length, cs)
+                : cs.decode(bytesAt(pos, length), 0, length);
+    }
+
+    @Override
+    byte[] bytesAt(long pos, int length) {
+        if (pos >= inflatedPos)
+            return inflated.bytesAt(pos - inflatedPos, length);
+
+        byte[] dest = new byte[length];
+        copyMappedBytesTo(pos, dest, 0, length);
+        return dest;
+    }
+
+    @Override
+    boolean testBytes(long pos, int length, BytePredicate predicate) {
+        return predicate.test(bytesAt(pos, length), 0, length);
+    }
+
+    @Override
+    long parseBytes(long pos, int length, ByteParser parser) {
+        return parser.parse(bytesAt(pos, length), 0, length);
+    }
+
+    @Override
+    long parseBytes(long pos, int length, int index, IndexedByteParser parser) {
+        return parser.parse(bytesAt(pos, length), 0, length, index);
+    }
+
+    @Override
+    void forEachChunk(long pos, int length, int unit, ChunkConsumer consumer) {
+        if (pos >= inflatedPos)
+            inflated.forEachChunk(pos - inflatedPos, length, unit, consumer);
+        else
+            consumer.accept(bytesAt(pos, length), 0, length);
+    }
+
+    @Override
+    int hashCode(long pos, int length) {
+        return hashCode(bytesAt(pos, length), 0, length);
+    }
+
+    @Override
+    void copyBytesTo(long pos, byte[] dest, int destPos, int length) {
+        if (pos >= inflatedPos)
+            inflated.copyBytesTo(pos - inflatedPos, dest, destPos, length);
+        else
+            copyMappedBytesTo(pos, dest, destPos, length);
+    }
+
+    @Override
+    boolean regionMatches(long pos, byte[] b, int off, int length) {
+        if (pos >= inflatedPos)
+            return inflated.regionMatches(pos - inflatedPos, b, off, length);
+
+        while (length > 0) {
+            int offset = chunkOffset(pos);
+            int n = Math.min(length, CHUNK_SIZE - offset);
+            if (!be[chunkIndex(pos)].slice(offset, n).equals(ByteBuffer.wrap(b, off, n)))
+                return false;
+            pos += n;
+            off += n;
+            length -= n;
+        }
+        return true;
+    }
+
+    @Override
+    boolean regionMatches(long pos, MemoryCache other, long otherPos, int length) {
+        return regionMatchesBuffered(pos, other, otherPos, length, BUFFER_SIZE);
+    }
+
+    @Override
+    void writeBytesTo(long pos, int length, OutputStream out) throws IOException {
+        if (pos >= inflatedPos)
+            inflated.writeBytesTo(pos - inflatedPos, length, out);
+        else
+            writeMappedBytesTo(pos, length, out);
+    }
+
+    @Override
+    InputStream inflate(InputStream in, long pos) throws IOException {
+        if (pos + 2 > size)
+            throw new EOFException();
+
+        Inflater inflater = new Inflater(byteAt(pos) != 120 || byteAt(pos + 1) != -100);
+        InflaterInputStream inflaterInputStream = new InflaterInputStream(new MappedInputStream(pos), inflater);
+        inflated = new HeapMemoryCache(DEFAULT_BLOCK_SIZE);
+        inflatedPos = pos;
+        return inflaterInputStream;
+    }
+
+    private ByteBuffer chunk(long pos, ByteOrder byteOrder) {
+        return (byteOrder == ByteOrder.BIG_ENDIAN ? be : le)[chunkIndex(pos)];
+    }
+
+    private void copyMappedBytesTo(long pos, byte[] dest, int destPos, int length) {
+        while (length > 0) {
+            int offset = chunkOffset(pos);
+            int copy = Math.min(length, CHUNK_SIZE - offset);
+            be[chunkIndex(pos)].get(offset, dest, destPos, copy);
+            pos += copy;
+            destPos += copy;
+            length -= copy;
+        }
+    }
+
+    private void writeMappedBytesTo(long pos, long length, OutputStream out) throws IOException {
+        byte[] buf = new byte[(int) Math.min(BUFFER_SIZE, length)];
+        while (length > 0) {
+            int copy = (int) Math.min(buf.length, length);
+            copyMappedBytesTo(pos, buf, 0, copy);
+            out.write(buf, 0, copy);
+            pos += copy;
+            length -= copy;
+        }
+    }
+
+    private static int chunkIndex(long pos) {
+        return (int) (pos >>> CHUNK_SIZE_BITS);
+    }
+
+    private static int chunkOffset(long pos) {
+        return (int) pos & CHUNK_MASK;
+    }
+
+    private class MappedInputStream extends InputStream {
+        private long pos;
+
+        MappedInputStream(long pos) {
+            this.pos = pos;
+        }
+
+        @Override
+        public int read() {
+            return pos < size ? be[chunkIndex(pos)].get(chunkOffset(pos++)) & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0)
+                return 0;
+
+            int read = (int) Math.min(len, size - pos);
+            if (read <= 0)
+                return -1;
+
+            copyMappedBytesTo(pos, b, off, read);
+            pos += read;
+            return read;
+        }
+    }
+}
@@ -3,117 +3,42 @@ package org.dcm4assange;
 import org.dcm4assange.util.ToggleEndian;
 
 import java.io.*;
-import java.util.*;
-import java.util.zip.Inflater;
-import java.util.zip.InflaterInputStream;
 
 /**
+ * Caches the bytes read from a DICOM stream for random access by their position in the stream. Positions passed to
+ * the accessors are stream positions; bytes skipped by {@link #skipFrom} are not cached, but still count for the
+ * positions of following bytes.
+ *
  * @author Gunter Zeilinger (gunterze@protonmail.com)
  * @since Mar 2021
  */
-class MemoryCache {
+abstract class MemoryCache {
     static final int DEFAULT_BLOCK_SIZE = 8192;
     private static final int MAX_BUFFER_SIZE = 2048;
-    private final int blockSize;
-    private final int blockSizeBits;
-    private final int blockMask;
-    private final ArrayList<byte[]> blocks = new ArrayList<>();
-    private long limit;
-    private boolean eof;
-    private final LinkedList<Segment> skippedBytes = new LinkedList<>();
-
-    public MemoryCache(int minBlockSize) {
-        int z = Integer.numberOfLeadingZeros(minBlockSize - 1);
-        this.blockMask = -1 >>> z;
-        this.blockSize = blockMask + 1;
-        this.blockSizeBits = 32 - z;
-    }
 
-    long limit() {
-        return limit;
+    static int blockSizeOf(int minBlockSize) {
+        return (-1 >>> Integer.numberOfLeadingZeros(minBlockSize - 1)) + 1;
     }
 
-    byte[] block(int index) {
-        return blocks.get(index);
-    }
+    abstract long limit();
 
-    long fillFrom(InputStream in, long length) throws IOException {
-        if (eof) {
-            return Math.min(this.limit, length);
-        }
-        while (this.limit < length) {
-            byte[] buf = new byte[blockSize];
-            int read = in.readNBytes(buf, 0, buf.length);
-            blocks.add(buf);
-            this.limit += read;
-            if (eof = read < buf.length) {
-                return Math.min(this.limit, length);
-            }
-        }
-        return length;
-    }
+    abstract long fillFrom(InputStream in, long length) throws IOException;
 
-    public void skipFrom(InputStream in, long pos, long len, OutputStream out) throws IOException {
-        if (len <= 0) return;
-        int skip = (int) (pos + len - limit);
-        long pos1 = pos - skippedBytes(pos);
-        if (out != null) {
-            writeTo(out, pos1, skip > 0 ? len - skip : len);
-        }
-        if (skip > 0) {
-            if (eof)
-                throw new EOFException();
+    public abstract void skipFrom(InputStream in, long pos, long len, OutputStream out) throws IOException;
 
-            if (out == null)
-                skipAll(in, skip);
-            else
-                transferTo(in, out, skip);
+    /**
+     * Releases the cached bytes. The cache must not be accessed afterwards.
+     */
+    abstract void release();
 
-            limit += skip;
-        } else if (skip < 0) {
-            pos1 = arraycopy(pos1 + len, pos1, -skip);
-        }
-        int index = blockIndex(pos1);
-        byte[] b = blocks.get(index);
-        int off = blockOffset(pos1);
-        while (blocks.size() > index + 1) {
-            blocks.remove(index + 1);
-        }
-        if (!eof) {
-            int read = in.readNBytes(b, off, b.length - off);
-            eof = off + read < b.length;
-            this.limit += read;
-        }
-        skippedBytes.add(new Segment(pos, len));
-    }
+    /**
+     * Releases blocks only containing bytes before the specified position. These bytes must not be accessed afterwards.
+     *
+     * @param pos position in the stream
+     */
+    abstract void discardBefore(long pos);
 
-    private void writeTo(OutputStream out, long pos, long len) throws IOException {
-        while (len > 0) {
-            byte[] b = blocks.get(blockIndex(pos));
-            int off = blockOffset(pos);
-            int write = (int) Math.min(b.length - off, len);
-            out.write(b, off, write);
-            pos += write;
-            len -= write;
-        }
-    }
-
-    private long arraycopy(long srcPos, long destPos, int len) {
-        while (len > 0) {
-            byte[] src = blocks.get(blockIndex(srcPos));
-            int srcOff = blockOffset(srcPos);
-            byte[] dest = blocks.get(blockIndex(destPos));
-            int destOff = blockOffset(destPos);
-            int copy = Math.min(Math.min(src.length - srcOff, dest.length - destOff), len);
-            System.arraycopy(src, srcOff, dest, destOff, copy);
-            srcPos += copy;
-            destPos += copy;
-            len -= copy;
-        }
-        return destPos;
-    }
-
-    private void skipAll(InputStream in, long n) throws IOException {
+    static void skipAll(InputStream in, long n) throws IOException {
         long nr;
         do {
             if ((nr = in.skip(n)) == 0)
@@ -122,7 +47,7 @@ class MemoryCache {
         } while ((n -= nr) > 0);
     }
 
-    private void transferTo(InputStream in, OutputStream out, long n) throws IOException {
+    static void transferTo(InputStream in, OutputStream out, long n) throws IOException {
         byte[] b = new byte[(int) Math.min(MAX_BUFFER_SIZE, n)];
         int nr;
         do {
@@ -134,119 +59,95 @@ class MemoryCache {
         } while ((n -= nr) > 0);
     }
 
-    private long skippedBytes(long pos) {
-        long len = 0L;
-        for (Segment skipped : skippedBytes) {
-            if (pos <= skipped.pos) return len;
-            len += skipped.length;
-        }
-        return len;
-    }
-
-    private record Segment(long pos, long length){
-        long end() {
-            return pos + length;
-        }
-    };
-
-    byte byteAt(long pos) {
-        pos -= skippedBytes(pos);
-        byte[] b = blocks.get(blockIndex(pos));
-        return b[blockOffset(pos)];
-    }
+    abstract byte byteAt(long pos);
 
-    short shortAt(long pos, ByteOrder byteOrder) {
-        pos -= skippedBytes(pos);
-        byte[] b = blocks.get(blockIndex(pos));
-        int offset = blockOffset(pos);
-        return (offset + 1 < b.length)
-                ? byteOrder.bytesToShort(b, offset)
-                : byteOrder.bytesToShort(byteAt(pos), byteAt(pos + 1));
-    }
+    abstract short shortAt(long pos, ByteOrder byteOrder);
 
     int vrcode(long pos) {
         return shortAt(pos, ByteOrder.BIG_ENDIAN);
     }
 
-    int intAt(long pos, ByteOrder byteOrder) {
-        pos -= skippedBytes(pos);
-        byte[] b = blocks.get(blockIndex(pos));
-        int offset = blockOffset(pos);
-        return (offset + 3 < b.length)
-                ? byteOrder.bytesToInt(b, offset)
-                : byteOrder.bytesToInt(byteAt(pos), byteAt(pos + 1), byteAt(pos + 2), byteAt(pos + 3));
-    }
+    abstract int intAt(long pos, ByteOrder byteOrder);
 
-    int tagAt(long pos, ByteOrder byteOrder) {
-        pos -= skippedBytes(pos);
-        byte[] b = blocks.get(blockIndex(pos));
-        int offset = blockOffset(pos);
-        return (offset + 3 < b.length)
-                ? byteOrder.bytesToTag(b, offset)
-                : byteOrder.bytesToTag(byteAt(pos), byteAt(pos + 1), byteAt(pos + 2), byteAt(pos + 3));
-    }
+    abstract int tagAt(long pos, ByteOrder byteOrder);
 
-    long longAt(long pos, ByteOrder byteOrder) {
-        pos -= skippedBytes(pos);
-        byte[] b = blocks.get(blockIndex(pos));
-        int offset = blockOffset(pos);
-        return (offset + 7 < b.length)
-                ? byteOrder.bytesToLong(b, offset)
-                : byteOrder.bytesToLong(byteAt(pos), byteAt(pos + 1), byteAt(pos + 2), byteAt(pos + 3),
-                                byteAt(pos + 4), byteAt(pos + 5), byteAt(pos + 6), byteAt(pos + 7));
-    }
-    String stringAt(long pos, int length, SpecificCharacterSet cs) {
-        pos -= skippedBytes(pos);
-        byte[] b = blocks.get(blockIndex(pos));
-        int offset = blockOffset(pos);
-        return (offset + length <= b.length)
-                ? cs.decode(b, offset, length)
-                : cs.decode(bytesAt0(pos, length), 0, length);
-    }
+    abstract long longAt(long pos, ByteOrder byteOrder);
 
-    byte[] bytesAt(long pos, int length) {
-        pos -= skippedBytes(pos);
-        return bytesAt0(pos, length);
-    }
+    abstract String stringAt(long pos, int length, SpecificCharacterSet cs);
 
-    byte[] bytesAt0(long pos, int length) {
-        byte[] dest = new byte[length];
-        copyBytesTo(pos, dest, 0, length);
-        return dest;
-    }
+    abstract byte[] bytesAt(long pos, int length);
 
-    void copyBytesTo(long pos, byte[] dest, int destPos, int length) {
-        int i = blockIndex(pos);
-        byte[] src = blocks.get(i);
-        int srcPos = blockOffset(pos);
-        int copy =  Math.min(length, src.length - srcPos);
-        System.arraycopy(src, srcPos, dest, destPos, copy);
-        int remaining = length;
-        while ((remaining -= copy) > 0) {
-            destPos += copy;
-            src = blocks.get(++i);
-            copy = Math.min(remaining, src.length);
-            System.arraycopy(src, 0, dest, destPos, copy);
+    /**
+     * Tests the {@code length} bytes at {@code pos} by {@code predicate}, passing the cached bytes in place if they
+     * are contiguous, otherwise a copy of the bytes.
+     */
+    abstract boolean testBytes(long pos, int length, BytePredicate predicate);
+
+    /**
+     * Parses the {@code length} bytes at {@code pos} by {@code parser}, passing the cached bytes in place if they
+     * are contiguous, otherwise a copy of the bytes.
+     */
+    abstract long parseBytes(long pos, int length, ByteParser parser);
+
+    /**
+     * Parses the value with index {@code index} of the {@code length} bytes at {@code pos} by {@code parser}, passing
+     * the cached bytes in place if they are contiguous, otherwise a copy of the bytes.
+     */
+    abstract long parseBytes(long pos, int length, int index, IndexedByteParser parser);
+
+    /**
+     * Passes the {@code length} bytes at {@code pos} to {@code consumer} in contiguous chunks of multiples of
+     * {@code unit} bytes, in place if the cache holds them in byte arrays. A unit crossing a block boundary is passed
+     * as a copy of its bytes.
+     */
+    abstract void forEachChunk(long pos, int length, int unit, ChunkConsumer consumer);
+
+    abstract void copyBytesTo(long pos, byte[] dest, int destPos, int length);
+
+    /**
+     * Returns the hash code of the {@code length} bytes at {@code pos}. Equals {@link #hashCode(byte[], int, int)} of
+     * a copy of the bytes.
+     */
+    abstract int hashCode(long pos, int length);
+
+    static int hashCode(byte[] b, int off, int length) {
+        int h = 1;
+        for (int i = off, end = off + length; i < end; i++) {
+            h = 31 * h + b[i];
         }
+        return h;
     }
 
-    void writeBytesTo(long pos, int length, OutputStream out) throws IOException {
-        if (length == 0) {
-            return;
-        }
-        int i = blockIndex(pos);
-        byte[] src = blocks.get(i);
-        int srcPos = blockOffset(pos);
-        int rlen = Math.min(length, src.length - srcPos);
-        out.write(src, srcPos, rlen);
-        int remaining = length;
-        while ((remaining -= rlen) > 0L) {
-            src = blocks.get(++i);
-            rlen = Math.min(remaining, src.length);
-            out.write(src, 0, rlen);
+    /**
+     * Compares {@code length} bytes at {@code pos} with the bytes of {@code b} starting at {@code off}.
+     */
+    abstract boolean regionMatches(long pos, byte[] b, int off, int length);
+
+    /**
+     * Compares {@code length} bytes at {@code pos} with {@code length} bytes at {@code otherPos} of {@code other}.
+     */
+    abstract boolean regionMatches(long pos, MemoryCache other, long otherPos, int length);
+
+    /**
+     * Implementation of {@link #regionMatches(long, MemoryCache, long, int)} for caches not holding their bytes in
+     * heap blocks, which copies the bytes of this cache chunk-wise into a temporary buffer.
+     */
+    final boolean regionMatchesBuffered(long pos, MemoryCache other, long otherPos, int length, int bufferSize) {
+        byte[] buf = new byte[Math.min(length, bufferSize)];
+        while (length > 0) {
+            int n = Math.min(length, buf.length);
+            copyBytesTo(pos, buf, 0, n);
+            if (!other.regionMatches(otherPos, buf, 0, n))
+                return false;
+            pos += n;
+            otherPos += n;
+            length -= n;
         }
+        return true;
     }
 
+    abstract void writeBytesTo(long pos, int length, OutputStream out) throws IOException;
+
     void writeSwappedBytesTo(long pos, int length, OutputStream out, ToggleEndian toggleEndian, byte[] buf)
             throws IOException {
         if (buf.length == 0 || (buf.length & 7) != 0) {
@@ -263,34 +164,26 @@ class MemoryCache {
         }
     }
 
-    InputStream inflate(InputStream in, long pos) throws IOException {
-        if (fillFrom(in, pos + 2) != pos + 2)
-            throw new EOFException();
-
-        int size = (int) (limit - pos);
-        PushbackInputStream pushbackInputStream = new PushbackInputStream(in, size);
-        long pos1 = pos - skippedBytes(pos);
-        byte[] b = blocks.get(blockIndex(pos1));
-        int offset = blockOffset(pos1);
-        pushbackInputStream.unread(b, offset, size);
-        InflaterInputStream inflaterInputStream = new InflaterInputStream(pushbackInputStream,
-                new Inflater(b[offset] != 120 || b[offset+1] != -100));
-        int read = inflaterInputStream.readNBytes(b, offset, b.length - offset);
-        eof = offset + read < b.length;
-        limit = pos + read;
-        return inflaterInputStream;
+    abstract InputStream inflate(InputStream in, long pos) throws IOException;
+
+    DicomInput dicomInput(DicomEncoding encoding) {
+        return new DicomInput(encoding);
+    }
+
+    interface BytePredicate {
+        boolean test(byte[] b, int off, int len);
     }
 
-    private int blockIndex(long pos) {
-        return (int) (pos >>> blockSizeBits);
+    interface ByteParser {
+        long parse(byte[] b, int off, int len);
     }
 
-    private int blockOffset(long pos) {
-        return (int) pos & blockMask;
+    interface IndexedByteParser {
+        long parse(byte[] b, int off, int len, int index);
     }
 
-    DicomInput dicomInput(DicomEncoding encoding) {
-        return new DicomInput(encoding);
+    interface ChunkConsumer {
+        void accept(byte[] b, int off, int len);
     }
 
     class DicomInput {
@@ -333,7 +226,7 @@ class MemoryCache {
             int type = (int)(header >>> 62);
             return type == 0 ? -1
                     : type == 1 ? intAt(pos + 4)
-                    : type == 2 ? shortAt(pos + 6)
+                    : type == 2 ? ushortAt(pos + 6)
                     : intAt(pos + 8);
         }
 
@@ -0,0 +1,207 @@
+package org.dcm4assange;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses backslash separated Decimal String (DS) and Integer String (IS) values directly from their encoded bytes,
+ * without building {@code String}s. Decimals with at most 15 significant digits and a decimal exponent within
+ * &plusmn;22 are converted exactly by one multiplication or division, all others by {@link Double#parseDouble}.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+final class NumberParser {
+    private static final int MAX_FAST_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    /**
+     * Returned by {@link #parseIntAt} and {@link #parseDecimalIntAt}, if there is no value with the specified index.
+     */
+    static final long NO_VALUE = Long.MIN_VALUE;
+
+    /**
+     * Returned by {@link #parseDoubleBitsAt}, if there is no value with the specified index. A NaN never returned by
+     * {@link Double#doubleToLongBits}.
+     */
+    static final long NO_DOUBLE_BITS = 0x7ff0000000000001L;
+
+    private NumberParser() {}
+
+    /**
+     * Parses the values with index {@code fromIndex} to {@code fromIndex + dest.length - 1} into {@code dest}.
+     *
+     * @return the number of values
+     * @throws NumberFormatException if one of the parsed values is not a valid decimal
+     */
+    static int parseDoubles(byte[] b, int off, int len, int fromIndex, double[] dest) {
+        if (len == 0)
+            return 0;
+
+        int end = off + len;
+        int toIndex = fromIndex + dest.length;
+        int index = 0;
+        for (int begin = off;; index++) {
+            int delim = indexOf(b, begin, end);
+            if (index >= fromIndex && index < toIndex)
+                dest[index - fromIndex] = parseDouble(b, begin, delim);
+            if (delim == end)
+                return index + 1;
+            begin = delim + 1;
+        }
+    }
+
+    /**
+     * Parses the values with index {@code fromIndex} to {@code fromIndex + dest.length - 1} into {@code dest}.
+     * Decimals are truncated to {@code int}.
+     *
+     * @return the number of values
+     * @throws NumberFormatException if one of the parsed values is not a valid integer or decimal
+     */
+    static int parseInts(byte[] b, int off, int len, boolean decimal, int fromIndex, int[] dest) {
+        if (len == 0)
+            return 0;
+
+        int end = off + len;
+        int toIndex = fromIndex + dest.length;
+        int index = 0;
+        for (int begin = off;; index++) {
+            int delim = indexOf(b, begin, end);
+            if (index >= fromIndex && index < toIndex)
+                dest[index - fromIndex] = decimal ? (int) parseDouble(b, begin, delim) : parseInt(b, begin, delim);
+            if (delim == end)
+                return index + 1;
+            begin = delim + 1;
+        }
+    }
+
+    /**
+     * Parses the value with index {@code index}.
+     *
+     * @return the value or {@link #NO_VALUE}
+     * @throws NumberFormatException if the value is not a valid integer
+     */
+    static long parseIntAt(byte[] b, int off, int len, int index) {
+        int end = off + len;
+        int begin = indexOfValue(b, off, end, index);
+        return begin < 0 ? NO_VALUE : parseInt(b, begin, indexOf(b, begin, end));
+    }
+
+    /**
+     * Parses the value with index {@code index}, truncated to {@code int}.
+     *
+     * @return the value or {@link #NO_VALUE}
+     * @throws NumberFormatException if the value is not a valid decimal
+     */
+    static long parseDecimalIntAt(byte[] b, int off, int len, int index) {
+        int end = off + len;
+        int begin = indexOfValue(b, off, end, index);
+        return begin < 0 ? NO_VALUE : (int) parseDouble(b, begin, indexOf(b, begin, end));
+    }
+
+    /**
+     * Parses the value with index {@code index}.
+     *
+     * @return the value as {@link Double#doubleToLongBits} or {@link #NO_DOUBLE_BITS}
+     * @throws NumberFormatException if the value is not a valid decimal
+     */
+    static long parseDoubleBitsAt(byte[] b, int off, int len, int index) {
+        int end = off + len;
+        int begin = indexOfValue(b, off, end, index);
+        return begin < 0
+                ? NO_DOUBLE_BITS
+                : Double.doubleToLongBits(parseDouble(b, begin, indexOf(b, begin, end)));
+    }
+
+    static double parseDouble(byte[] b, int from, int to) {
+        while (from < to && (b[from] & 0xff) <= ' ') from++;
+        while (to > from && (b[to - 1] & 0xff) <= ' ') to--;
+        int pos = from;
+        boolean negative = pos < to && b[pos] == '-';
+        if (negative || pos < to && b[pos] == '+') pos++;
+        long mantissa = 0;
+        int digits = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        for (; pos < to && isDigit(b[pos]); pos++, digits++) {
+            if (mantissa != 0 || b[pos] != '0') {
+                mantissa = mantissa * 10 + (b[pos] - '0');
+                significantDigits++;
+            }
+        }
+        if (pos < to && b[pos] == '.') {
+            for (pos++; pos < to && isDigit(b[pos]); pos++, digits++) {
+                if (mantissa != 0 || b[pos] != '0') {
+                    mantissa = mantissa * 10 + (b[pos] - '0');
+                    significantDigits++;
+                }
+                exponent--;
+            }
+        }
+        if (digits > 0 && pos < to && (b[pos] | 0x20) == 'e') {
+            int expPos = pos + 1;
+            boolean negativeExp = expPos < to && b[expPos] == '-';
+            if (negativeExp || expPos < to && b[expPos] == '+') expPos++;
+            int exp = 0;
+            int expDigits = 0;
+            for (; expPos < to && isDigit(b[expPos]) && expDigits < 4; expPos++, expDigits++) {
+                exp = exp * 10 + (b[expPos] - '0');
+            }
+            if (expDigits > 0) {
+                exponent += negativeExp ? -exp : exp;
+                pos = expPos;
+            }
+        }
+        if (digits == 0 || pos != to || significantDigits > MAX_FAST_DIGITS
+                || exponent < -22 || exponent > 22)
+            return Double.parseDouble(new String(b, from, to - from, StandardCharsets.ISO_8859_1));
+
+        double value = exponent >= 0
+                ? mantissa * POWERS_OF_TEN[exponent]
+                : mantissa / POWERS_OF_TEN[-exponent];
+        return negative ? -value : value;
+    }
+
+    static int parseInt(byte[] b, int from, int to) {
+        while (from < to && (b[from] & 0xff) <= ' ') from++;
+        while (to > from && (b[to - 1] & 0xff) <= ' ') to--;
+        int pos = from;
+        boolean negative = pos < to && b[pos] == '-';
+        if (negative || pos < to && b[pos] == '+') pos++;
+        long value = 0;
+        int digits = 0;
+        for (; pos < to && isDigit(b[pos]) && digits < 11; pos++, digits++) {
+            value = value * 10 + (b[pos] - '0');
+        }
+        if (negative) value = -value;
+        if (digits == 0 || pos != to || value != (int) value)
+            return Integer.parseInt(new String(b, from, to - from, StandardCharsets.ISO_8859_1));
+
+        return (int) value;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static int indexOfValue(byte[] b, int from, int to, int index) {
+        if (from == to)
+            return -1;
+
+        for (; index > 0; index--) {
+            int delim = indexOf(b, from, to);
+            if (delim == to)
+                return -1;
+            from = delim + 1;
+        }
+        return from;
+    }
+
+    private static int indexOf(byte[] b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (b[i] == '\\') return i;
+        }
+        return to;
+    }
+}
@@ -1,6 +1,5 @@
 package org.dcm4assange;
 
-import java.io.UnsupportedEncodingException;
 import java.lang.ref.SoftReference;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
@@ -53,14 +52,14 @@ public class SpecificCharacterSet {
         UTF_8("UTF-8", true, 0, 0, -1),
         GB18030("GB18030", false, 0, 0, -1);
 
-        private final String charsetName;
+        private final Charset charset;
         private final boolean containsASCII;
         private final int escSeq0;
         private final int escSeq1;
         private final int bytesPerChar;
 
         Codec(String charsetName, boolean containsASCII, int escSeq0, int escSeq1, int bytesPerChar) {
-            this.charsetName = charsetName;
+            this.charset = Charset.forName(charsetName);
             this.containsASCII = containsASCII;
             this.escSeq0 = escSeq0;
             this.escSeq1 = escSeq1;
@@ -125,19 +124,23 @@ public class SpecificCharacterSet {
         }
 
         public byte[] encode(String val) {
-            try {
-                return val.getBytes(charsetName);
-            } catch (UnsupportedEncodingException e) {
-                throw new AssertionError(e);
-            }
+            return val.getBytes(charset);
         }
 
+        /**
+         * Decodes pure ASCII values of character sets containing ASCII as ISO-8859-1, which maps bytes to chars
+         * without a {@link CharsetDecoder} and results in compact Latin-1 strings.
+         */
         public String decode(byte[] b, int off, int len) {
-            try {
-                return new String(b, off, len, charsetName);
-            } catch (UnsupportedEncodingException e) {
-                throw new AssertionError(e);
+            return new String(b, off, len,
+                    containsASCII && isASCII(b, off, len) ? StandardCharsets.ISO_8859_1 : charset);
+        }
+
+        private static boolean isASCII(byte[] b, int off, int len) {
+            for (int i = off, end = off + len; i < end; i++) {
+                if (b[i] < 0) return false;
             }
+            return true;
         }
 
         public boolean containsASCII() {
@@ -167,7 +170,7 @@ public class SpecificCharacterSet {
 
         public Encoder(Codec codec) {
             this.codec = codec;
-            this.encoder = Charset.forName(codec.charsetName).newEncoder();
+            this.encoder = codec.charset.newEncoder();
         }
 
         public boolean encode(CharBuffer cb, ByteBuffer bb, int escSeq,
@@ -310,6 +313,9 @@ public class SpecificCharacterSet {
 
         @Override
         public String decode(byte[] b, int off, int len) {
+            if (indexOfESC(b, off, off + len) < 0) // G0 and G1 stay designated to the initial character set
+                return codecs[0].decode(b, off, len);
+
             Codec[] codec = { codecs[0], codecs[0] };
             int g = 0;
             int cur = off;
@@ -407,6 +413,13 @@ public class SpecificCharacterSet {
             return sb.toString();
         }
 
+        private static int indexOfESC(byte[] b, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (b[i] == 0x1b) return i;
+            }
+            return -1;
+        }
+
         private void switchCodec(Codec[] codecs, int i, Codec codec) {
             codecs[i] = codec;
             if (codecs[0].getEscSeq0() == codecs[1].getEscSeq0())
@@ -464,6 +477,15 @@ public class SpecificCharacterSet {
         return codecs[0].decode(val, off, len);
     }
 
+    /**
+     * Returns {@code true} if values are encoded by one character set containing ASCII without code extensions, so
+     * values can be split at backslashes and compared on their encoded bytes. JIS X 0201 is excluded, because it
+     * decodes 0x5C to YEN SIGN and 0x7E to OVERLINE.
+     */
+    boolean isByteComparable() {
+        return !(this instanceof ISO2022) && codecs[0].containsASCII && codecs[0] != Codec.JIS_X_201;
+    }
+
     public boolean isUTF8() {
         return codecs[0].equals(Codec.UTF_8);
     }
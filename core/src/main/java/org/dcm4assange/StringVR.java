@@ -1,10 +1,12 @@
 package org.dcm4assange;
 
 import org.dcm4assange.MemoryCache.DicomInput;
+import org.dcm4assange.util.OptionalFloat;
 import org.dcm4assange.util.StringUtils;
 import org.dcm4assange.util.StringUtils.Trim;
 
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.function.Function;
 
@@ -19,8 +21,86 @@ enum StringVR implements VRType {
     DS("\\", VM.MULTI, Trim.LEADING_AND_TRAILING, StringVR::ascii) {
         @Override
         public OptionalInt intValue(DicomObject dcmobj, int i, int index) {
-            Optional<String> s = stringValue(dcmobj, i, index);
-            return s.isPresent() ? OptionalInt.of((int) Double.parseDouble(s.get())) : OptionalInt.empty();
+            long val = parseIntAt(dcmobj, i, true, index);
+            return val != NumberParser.NO_VALUE ? OptionalInt.of((int) val) : OptionalInt.empty();
+        }
+
+        @Override
+        public OptionalInt intValue(String[] ss, int index) {
+            return ss.length > index ? OptionalInt.of((int) Double.parseDouble(ss[index])) : OptionalInt.empty();
+        }
+
+        @Override
+        public OptionalFloat floatValue(String[] ss, int index) {
+            return ss.length > index ? OptionalFloat.of((float) Double.parseDouble(ss[index])) : OptionalFloat.empty();
+        }
+
+        @Override
+        public OptionalDouble doubleValue(String[] ss, int index) {
+            return ss.length > index ? OptionalDouble.of(Double.parseDouble(ss[index])) : OptionalDouble.empty();
+        }
+
+        @Override
+        public int intValue(DicomObject dcmobj, int i, int index, int defVal) {
+            long val = parseIntAt(dcmobj, i, true, index);
+            return val != NumberParser.NO_VALUE ? (int) val : defVal;
+        }
+
+        @Override
+        public int intValues(DicomObject dcmobj, int i, int[] dest) {
+            return parseInts(dcmobj, i, true, 0, dest);
+        }
+
+        @Override
+        public int[] intValues(DicomObject dcmobj, int i) {
+            int[] ints = new int[parseInts(dcmobj, i, true, 0, ByteOrder.EMPTY_INTS)];
+            parseInts(dcmobj, i, true, 0, ints);
+            return ints;
+        }
+
+        @Override
+        public OptionalFloat floatValue(DicomObject dcmobj, int i, int index) {
+            long bits = parseDoubleBitsAt(dcmobj, i, index);
+            return bits != NumberParser.NO_DOUBLE_BITS
+                    ? OptionalFloat.of((float) Double.longBitsToDouble(bits))
+                    : OptionalFloat.empty();
+        }
+
+        @Override
+        public float floatValue(DicomObject dcmobj, int i, int index, float defVal) {
+            long bits = parseDoubleBitsAt(dcmobj, i, index);
+            return bits != NumberParser.NO_DOUBLE_BITS ? (float) Double.longBitsToDouble(bits) : defVal;
+        }
+
+        @Override
+        public OptionalDouble doubleValue(DicomObject dcmobj, int i, int index) {
+            long bits = parseDoubleBitsAt(dcmobj, i, index);
+            return bits != NumberParser.NO_DOUBLE_BITS
+                    ? OptionalDouble.of(Double.longBitsToDouble(bits))
+                    : OptionalDouble.empty();
+        }
+
+        @Override
+        public double doubleValue(DicomObject dcmobj, int i, int index, double defVal) {
+            long bits = parseDoubleBitsAt(dcmobj, i, index);
+            return bits != NumberParser.NO_DOUBLE_BITS ? Double.longBitsToDouble(bits) : defVal;
+        }
+
+        @Override
+        public float[] floatValues(DicomObject dcmobj, int i) {
+            double[] doubles = doubleValues(dcmobj, i);
+            float[] floats = new float[doubles.length];
+            for (int j = 0; j < doubles.length; j++) {
+                floats[j] = (float) doubles[j];
+            }
+            return floats;
+        }
+
+        @Override
+        public double[] doubleValues(DicomObject dcmobj, int i) {
+            double[] doubles = new double[parseDoubles(dcmobj, i, 0, ByteOrder.EMPTY_DOUBLES)];
+            parseDoubles(dcmobj, i, 0, doubles);
+            return doubles;
         }
 
         @Override
@@ -62,8 +142,85 @@ enum StringVR implements VRType {
     IS("\\", VM.MULTI, Trim.LEADING_AND_TRAILING, StringVR::ascii) {
         @Override
         public OptionalInt intValue(DicomObject dcmobj, int i, int index) {
-            Optional<String> s = stringValue(dcmobj, i, index);
-            return s.isPresent() ? OptionalInt.of(Integer.parseInt(s.get())) : OptionalInt.empty();
+            long val = parseIntAt(dcmobj, i, false, index);
+            return val != NumberParser.NO_VALUE ? OptionalInt.of((int) val) : OptionalInt.empty();
+        }
+
+        @Override
+        public OptionalInt intValue(String[] ss, int index) {
+            return ss.length > index ? OptionalInt.of(Integer.parseInt(ss[index])) : OptionalInt.empty();
+        }
+
+        @Override
+        public OptionalFloat floatValue(String[] ss, int index) {
+            return ss.length > index ? OptionalFloat.of(Integer.parseInt(ss[index])) : OptionalFloat.empty();
+        }
+
+        @Override
+        public OptionalDouble doubleValue(String[] ss, int index) {
+            return ss.length > index ? OptionalDouble.of(Integer.parseInt(ss[index])) : OptionalDouble.empty();
+        }
+
+        @Override
+        public int intValue(DicomObject dcmobj, int i, int index, int defVal) {
+            long val = parseIntAt(dcmobj, i, false, index);
+            return val != NumberParser.NO_VALUE ? (int) val : defVal;
+        }
+
+        @Override
+        public int intValues(DicomObject dcmobj, int i, int[] dest) {
+            return parseInts(dcmobj, i, false, 0, dest);
+        }
+
+        @Override
+        public int[] intValues(DicomObject dcmobj, int i) {
+            int[] ints = new int[parseInts(dcmobj, i, false, 0, ByteOrder.EMPTY_INTS)];
+            parseInts(dcmobj, i, false, 0, ints);
+            return ints;
+        }
+
+        @Override
+        public OptionalFloat floatValue(DicomObject dcmobj, int i, int index) {
+            long val = parseIntAt(dcmobj, i, false, index);
+            return val != NumberParser.NO_VALUE ? OptionalFloat.of(val) : OptionalFloat.empty();
+        }
+
+        @Override
+        public float floatValue(DicomObject dcmobj, int i, int index, float defVal) {
+            long val = parseIntAt(dcmobj, i, false, index);
+            return val != NumberParser.NO_VALUE ? val : defVal;
+        }
+
+        @Override
+        public OptionalDouble doubleValue(DicomObject dcmobj, int i, int index) {
+            long val = parseIntAt(dcmobj, i, false, index);
+            return val != NumberParser.NO_VALUE ? OptionalDouble.of(val) : OptionalDouble.empty();
+        }
+
+        @Override
+        public double doubleValue(DicomObject dcmobj, int i, int index, double defVal) {
+            long val = parseIntAt(dcmobj, i, false, index);
+            return val != NumberParser.NO_VALUE ? val : defVal;
+        }
+
+        @Override
+        public float[] floatValues(DicomObject dcmobj, int i) {
+            int[] ints = intValues(dcmobj, i);
+            float[] floats = new float[ints.length];
+            for (int j = 0; j < ints.length; j++) {
+                floats[j] = ints[j];
+            }
+            return floats;
+        }
+
+        @Override
+        public double[] doubleValues(DicomObject dcmobj, int i) {
+            int[] ints = intValues(dcmobj, i);
+            double[] doubles = new double[ints.length];
+            for (int j = 0; j < ints.length; j++) {
+                doubles[j] = ints[j];
+            }
+            return doubles;
         }
 
         @Override
@@ -120,6 +277,14 @@ enum StringVR implements VRType {
         this.asciiOrCS = asciiOrCS;
     }
 
+    /**
+     * Returns {@code true} if values are encoded by the Specific Character Set of the data set, otherwise values are
+     * restricted to the Default Character Repertoire.
+     */
+    boolean specificCharacterSet() {
+        return this == STRING || this == TEXT || this == PN;
+    }
+
     @Override
     public String delimiters() {
         return delimiters;
@@ -136,9 +301,9 @@ enum StringVR implements VRType {
     }
 
     @Override
-    public Optional<String> stringValue(DicomObject dcmobj, int i, int index) {
+    public String stringValue(DicomObject dcmobj, int i, int index, String defVal) {
         String[] ss = stringValues(dcmobj, i);
-        return ss.length > index ? Optional.of(ss[index]) : Optional.empty();
+        return ss.length > index ? ss[index] : defVal;
     }
 
     @Override
@@ -146,12 +311,66 @@ enum StringVR implements VRType {
         if (dcmobj.values[index] instanceof String[] ss)
             return ss;
         long header = dcmobj.headers[index];
-        String[] ss = stringValues(dcmobj.dicomInput.stringAt(
+        StringValueCache stringValueCache = dcmobj.stringValueCache;
+        String[] ss = stringValueCache != null && StringValueCache.caches(VR.fromHeader(header))
+                ? stringValueCache.stringValues(dcmobj.dicomInput.cache(),
+                        DicomObject.header2valuePosition(header),
+                        dcmobj.header2valueLength(header),
+                        this)
+                : stringValues(dcmobj.dicomInput.stringAt(
+                        DicomObject.header2valuePosition(header),
+                        dcmobj.header2valueLength(header),
+                        asciiOrCS.apply(dcmobj)));
+        if (!dcmobj.shared) {
+            dcmobj.values[index] = ss;
+        }
+        return ss;
+    }
+
+    @Override
+    public long dateTimeValue(DicomObject dcmobj, int i, DateTimeParser parser, long defVal) {
+        Object value = dcmobj.values[i];
+        long header = dcmobj.headers[i];
+        long val = value instanceof String[] ss ? (ss.length > 0 ? parser.parse(ss[0]) : DateTimeParser.NO_VALUE)
+                : value instanceof byte[] b ? parser.parse(b, 0, b.length)
+                : (int)(header >>> 62) == 0 ? DateTimeParser.NO_VALUE
+                : dcmobj.dicomInput.cache().parseBytes(
+                        DicomObject.header2valuePosition(header),
+                        dcmobj.header2valueLength(header),
+                        parser);
+        return val != DateTimeParser.NO_VALUE ? val : defVal;
+    }
+
+    @Override
+    public boolean matches(DicomObject dcmobj, int i, String key, ValueMatcher.Mode mode) {
+        SpecificCharacterSet cs = asciiOrCS.apply(dcmobj);
+        return dcmobj.values[i] instanceof String[] || !cs.isByteComparable()
+                ? ValueMatcher.matches(stringValues(dcmobj, i), key, mode)
+                : matches(dcmobj, i,
+                        new ValueMatcher(cs.encode(key, delimiters), mode, vm == VM.MULTI, trim, cs.isUTF8()));
+    }
+
+    @Override
+    public boolean matches(DicomObject dcmobj, int i, byte[] key, ValueMatcher.Mode mode) {
+        SpecificCharacterSet cs = asciiOrCS.apply(dcmobj);
+        return dcmobj.values[i] instanceof String[] || !cs.isByteComparable()
+                ? ValueMatcher.matches(stringValues(dcmobj, i), cs.decode(key, 0, key.length), mode)
+                : matches(dcmobj, i, new ValueMatcher(key, mode, vm == VM.MULTI, trim, cs.isUTF8()));
+    }
+
+    private static boolean matches(DicomObject dcmobj, int i, ValueMatcher matcher) {
+        Object value = dcmobj.values[i];
+        if (value instanceof byte[] b)
+            return matcher.test(b, 0, b.length);
+
+        long header = dcmobj.headers[i];
+        if (value != null || (int)(header >>> 62) == 0)
+            return false;
+
+        return dcmobj.dicomInput.cache().testBytes(
                 DicomObject.header2valuePosition(header),
                 dcmobj.header2valueLength(header),
-                asciiOrCS.apply(dcmobj)));
-        dcmobj.values[index] = ss;
-        return ss;
+                matcher);
     }
 
     @Override
@@ -195,6 +414,102 @@ enum StringVR implements VRType {
         return sb;
     }
 
+    /**
+     * Parses the values with index {@code fromIndex} to {@code fromIndex + dest.length - 1} of a DS element into
+     * {@code dest}, directly from the encoded bytes if they are not already decoded.
+     *
+     * @return the number of values
+     */
+    private static int parseDoubles(DicomObject dcmobj, int i, int fromIndex, double[] dest) {
+        Object value = dcmobj.values[i];
+        if (value instanceof String[] ss) {
+            for (int j = fromIndex, n = Math.min(ss.length, fromIndex + dest.length); j < n; j++) {
+                dest[j - fromIndex] = Double.parseDouble(ss[j]);
+            }
+            return ss.length;
+        }
+        if (value instanceof byte[] b)
+            return NumberParser.parseDoubles(b, 0, b.length, fromIndex, dest);
+
+        long header = dcmobj.headers[i];
+        return (int)(header >>> 62) == 0 ? 0 : (int) dcmobj.dicomInput.cache().parseBytes(
+                DicomObject.header2valuePosition(header),
+                dcmobj.header2valueLength(header),
+                (b, off, len) -> NumberParser.parseDoubles(b, off, len, fromIndex, dest));
+    }
+
+    /**
+     * Parses the values with index {@code fromIndex} to {@code fromIndex + dest.length - 1} of an IS or DS element
+     * into {@code dest}, directly from the encoded bytes if they are not already decoded.
+     *
+     * @return the number of values
+     */
+    private static int parseInts(DicomObject dcmobj, int i, boolean decimal, int fromIndex, int[] dest) {
+        Object value = dcmobj.values[i];
+        if (value instanceof String[] ss) {
+            for (int j = fromIndex, n = Math.min(ss.length, fromIndex + dest.length); j < n; j++) {
+                dest[j - fromIndex] = decimal ? (int) Double.parseDouble(ss[j]) : Integer.parseInt(ss[j]);
+            }
+            return ss.length;
+        }
+        if (value instanceof byte[] b)
+            return NumberParser.parseInts(b, 0, b.length, decimal, fromIndex, dest);
+
+        long header = dcmobj.headers[i];
+        return (int)(header >>> 62) == 0 ? 0 : (int) dcmobj.dicomInput.cache().parseBytes(
+                DicomObject.header2valuePosition(header),
+                dcmobj.header2valueLength(header),
+                (b, off, len) -> NumberParser.parseInts(b, off, len, decimal, fromIndex, dest));
+    }
+
+    /**
+     * Parses the value with index {@code index} of a DS element, directly from the encoded bytes if they are not
+     * already decoded.
+     *
+     * @return the value as {@link Double#doubleToLongBits} or {@link NumberParser#NO_DOUBLE_BITS}
+     */
+    private static long parseDoubleBitsAt(DicomObject dcmobj, int i, int index) {
+        Object value = dcmobj.values[i];
+        if (value instanceof String[] ss)
+            return ss.length > index
+                    ? Double.doubleToLongBits(Double.parseDouble(ss[index]))
+                    : NumberParser.NO_DOUBLE_BITS;
+        if (value instanceof byte[] b)
+            return NumberParser.parseDoubleBitsAt(b, 0, b.length, index);
+
+        long header = dcmobj.headers[i];
+        return (int)(header >>> 62) == 0 ? NumberParser.NO_DOUBLE_BITS : dcmobj.dicomInput.cache().parseBytes(
+                DicomObject.header2valuePosition(header),
+                dcmobj.header2valueLength(header),
+                index,
+                NumberParser::parseDoubleBitsAt);
+    }
+
+    /**
+     * Parses the value with index {@code index} of an IS or DS element, directly from the encoded bytes if they are
+     * not already decoded.
+     *
+     * @return the value or {@link NumberParser#NO_VALUE}
+     */
+    private static long parseIntAt(DicomObject dcmobj, int i, boolean decimal, int index) {
+        Object value = dcmobj.values[i];
+        if (value instanceof String[] ss)
+            return ss.length > index
+                    ? (decimal ? (int) Double.parseDouble(ss[index]) : Integer.parseInt(ss[index]))
+                    : NumberParser.NO_VALUE;
+        if (value instanceof byte[] b)
+            return decimal
+                    ? NumberParser.parseDecimalIntAt(b, 0, b.length, index)
+                    : NumberParser.parseIntAt(b, 0, b.length, index);
+
+        long header = dcmobj.headers[i];
+        return (int)(header >>> 62) == 0 ? NumberParser.NO_VALUE : dcmobj.dicomInput.cache().parseBytes(
+                DicomObject.header2valuePosition(header),
+                dcmobj.header2valueLength(header),
+                index,
+                decimal ? NumberParser::parseDecimalIntAt : NumberParser::parseIntAt);
+    }
+
     private static SpecificCharacterSet ascii(DicomObject dicomObject) {
         return SpecificCharacterSet.ASCII;
     }
@@ -0,0 +1,83 @@
+package org.dcm4assange;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of decoded values of Unique Identifier (UI), Code String (CS) and Application Entity (AE) elements,
+ * keyed on their encoded bytes, which may be shared by several {@link DicomInputStream}s and threads. Data sets parsed
+ * by {@link DicomInputStream#withStringValueCache(StringValueCache)} share the {@code String[]} of elements with
+ * equal encoded bytes, which therefore must not be modified.
+ * <p>
+ * Each entry of the cache may only hold one value; a value whose hash maps to an occupied entry replaces the cached
+ * value. Updates are not synchronized, so concurrent updates of an entry may get lost.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public final class StringValueCache {
+    static final int MAX_VALUE_LENGTH = 64;
+    private final Entry[] entries;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache of values.
+     *
+     * @param maxEntries maximal number of cached values, rounded up to the next power of 2
+     */
+    public StringValueCache(int maxEntries) {
+        if (maxEntries <= 0)
+            throw new IllegalArgumentException("maxEntries: " + maxEntries);
+        int size = Integer.highestOneBit(maxEntries);
+        if (size < maxEntries) size <<= 1;
+        this.entries = new Entry[size];
+        this.mask = size - 1;
+    }
+
+    public int maxEntries() {
+        return entries.length;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public void clear() {
+        Arrays.fill(entries, null);
+    }
+
+    static boolean caches(VR vr) {
+        return vr == VR.UI || vr == VR.CS || vr == VR.AE;
+    }
+
+    /**
+     * Returns the values encoded by the {@code length} bytes at {@code pos}, which are only decoded if they are not
+     * already cached.
+     */
+    String[] stringValues(MemoryCache cache, long pos, int length, StringVR vr) {
+        if (length > MAX_VALUE_LENGTH)
+            return vr.stringValues(cache.stringAt(pos, length, SpecificCharacterSet.ASCII));
+
+        int hash = cache.hashCode(pos, length);
+        int index = (hash ^ (hash >>> 16)) & mask;
+        Entry entry = entries[index];
+        if (entry != null && entry.hash == hash && entry.key.length == length
+                && cache.regionMatches(pos, entry.key, 0, length)) {
+            hits.increment();
+            return entry.values;
+        }
+        misses.increment();
+        byte[] key = cache.bytesAt(pos, length);
+        String[] values = vr.stringValues(SpecificCharacterSet.ASCII.decode(key, 0, length));
+        entries[index] = new Entry(key, hash, values);
+        return values;
+    }
+
+    private record Entry(byte[] key, int hash, String[] values) {}
+}
@@ -0,0 +1,129 @@
+package org.dcm4assange;
+
+import org.dcm4assange.util.TagUtils;
+
+import java.util.TreeMap;
+
+/**
+ * Compiled set of tag paths selecting the elements cached by {@link DicomInputStream#withTagFilter(int...)}. The tags
+ * of one nesting level are held in an array in ascending unsigned order, with a nested filter for each selected
+ * sequence which restricts the elements of its items, or {@code null} if the whole sequence is selected.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+final class TagFilter {
+    private final int[] tags;
+    private final TagFilter[] nested;
+
+    private TagFilter(int[] tags, TagFilter[] nested) {
+        this.tags = tags;
+        this.nested = nested;
+    }
+
+    /**
+     * Compiles tag paths to a filter. The last tag of a path selects an element or a whole sequence; preceding tags
+     * select the sequences containing it. Specific Character Set (0008,0005) is selected on each nesting level, and
+     * the Private Creator (gggg,00xx) of each selected private element (gggg,xxyy) on its level.
+     *
+     * @param tagPaths tag paths
+     * @return compiled filter
+     */
+    static TagFilter compile(int[]... tagPaths) {
+        Node root = new Node();
+        for (int[] tagPath : tagPaths) {
+            if (tagPath.length == 0)
+                throw new IllegalArgumentException("empty tag path");
+            Node node = root;
+            for (int i = 0; i < tagPath.length - 1 && node != null; i++) {
+                node = node.nested(tagPath[i]);
+            }
+            if (node != null) {
+                node.selectAll(tagPath[tagPath.length - 1]);
+            }
+        }
+        return root.compile();
+    }
+
+    /**
+     * Returns the index of the tag in this filter, or a negative value if the tag is not selected.
+     *
+     * @param tag tag of the element
+     * @return index of the tag or a negative value if the tag is not selected
+     */
+    int indexOf(int tag) {
+        int low = 0;
+        int high = tags.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Integer.compareUnsigned(tags[mid], tag);
+            if (cmp < 0)
+                low = mid + 1;
+            else if (cmp > 0)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -(low + 1);
+    }
+
+    TagFilter nested(int index) {
+        return nested[index];
+    }
+
+    boolean isLast(int index) {
+        return index == tags.length - 1;
+    }
+
+    /**
+     * Returns {@code true} if the tag is greater than all selected tags, so no further element of a data set encoded
+     * in ascending tag order can be selected.
+     *
+     * @param tag tag of the element
+     * @return {@code true} if the tag is greater than all selected tags
+     */
+    boolean isBeyond(int tag) {
+        return Integer.compareUnsigned(tag, tags[tags.length - 1]) > 0;
+    }
+
+    private static class Node {
+        final TreeMap<Integer, Node> selected = new TreeMap<>(Integer::compareUnsigned);
+
+        Node() {
+            selected.put(Tag.SpecificCharacterSet, null);
+        }
+
+        Node nested(int tag) {
+            if (selected.containsKey(tag)) {
+                return selected.get(tag);
+            }
+            Node node = new Node();
+            selected.put(tag, node);
+            selectPrivateCreator(tag);
+            return node;
+        }
+
+        void selectAll(int tag) {
+            selected.put(tag, null);
+            selectPrivateCreator(tag);
+        }
+
+        private void selectPrivateCreator(int tag) {
+            if (TagUtils.isPrivateTag(tag)) {
+                selected.putIfAbsent(TagUtils.creatorTagOf(tag), null);
+            }
+        }
+
+        TagFilter compile() {
+            int[] tags = new int[selected.size()];
+            TagFilter[] nested = new TagFilter[tags.length];
+            int i = 0;
+            for (var entry : selected.entrySet()) {
+                tags[i] = entry.getKey();
+                Node node = entry.getValue();
+                nested[i++] = node != null ? node.compile() : null;
+            }
+            return new TagFilter(tags, nested);
+        }
+    }
+}
@@ -44,9 +44,10 @@ public enum VR {
     final boolean evr8;
     final VRType type;
     final int paddingByte;
+    private static final VR[] VALUES = VR.values();
     private static final VR[] VALUE_OF = new VR[1024];
     static {
-        for (VR vr : VR.values())
+        for (VR vr : VALUES)
             VALUE_OF[indexOf(vr.code)] = vr;
     }
 
@@ -67,7 +68,7 @@ public enum VR {
 
     public static VR fromHeader(long header) {
         int index = ((int) (header >>> 55)) & 0x3f;
-        return index > 0 ? values()[index - 1] : null;
+        return index > 0 ? VALUES[index - 1] : null;
     }
 
     long toHeader() {
@@ -32,13 +32,65 @@ interface VRType {
     }
 
     default Optional<String> stringValue(DicomObject dcmobj, int i, int index) {
-        return Optional.empty();
+        return Optional.ofNullable(stringValue(dcmobj, i, index, null));
+    }
+
+    default int intValue(DicomObject dcmobj, int i, int index, int defVal) {
+        return defVal;
+    }
+
+    default long longValue(DicomObject dcmobj, int i, int index, long defVal) {
+        return defVal;
+    }
+
+    default float floatValue(DicomObject dcmobj, int i, int index, float defVal) {
+        return defVal;
+    }
+
+    default double doubleValue(DicomObject dcmobj, int i, int index, double defVal) {
+        return defVal;
+    }
+
+    default String stringValue(DicomObject dcmobj, int i, int index, String defVal) {
+        return defVal;
+    }
+
+    default long dateTimeValue(DicomObject dcmobj, int i, DateTimeParser parser, long defVal) {
+        return defVal;
+    }
+
+    default int intValues(DicomObject dcmobj, int i, int[] dest) {
+        return 0;
+    }
+
+    default short[] shortValues(DicomObject dcmobj, int i) {
+        return ByteOrder.EMPTY_SHORTS;
+    }
+
+    default int[] intValues(DicomObject dcmobj, int i) {
+        return ByteOrder.EMPTY_INTS;
+    }
+
+    default float[] floatValues(DicomObject dcmobj, int i) {
+        return ByteOrder.EMPTY_FLOATS;
+    }
+
+    default double[] doubleValues(DicomObject dcmobj, int i) {
+        return ByteOrder.EMPTY_DOUBLES;
     }
 
     default String[] stringValues(DicomObject dcmobj, int index) {
         return StringUtils.EMPTY_STRINGS;
     }
 
+    default boolean matches(DicomObject dcmobj, int i, String key, ValueMatcher.Mode mode) {
+        return ValueMatcher.matches(stringValues(dcmobj, i), key, mode);
+    }
+
+    default boolean matches(DicomObject dcmobj, int i, byte[] key, ValueMatcher.Mode mode) {
+        return matches(dcmobj, i, dcmobj.specificCharacterSet().decode(key, 0, key.length), mode);
+    }
+
     default Optional<String> stringValue(String value) {
         return Optional.empty();
     }
@@ -47,23 +99,59 @@ interface VRType {
         return StringUtils.EMPTY_STRINGS;
     }
 
+    default OptionalInt intValue(byte[] b, int index) {
+        return OptionalInt.empty();
+    }
+
+    default OptionalLong longValue(byte[] b, int index) {
+        return OptionalLong.empty();
+    }
+
+    default OptionalFloat floatValue(byte[] b, int index) {
+        return OptionalFloat.empty();
+    }
+
+    default OptionalDouble doubleValue(byte[] b, int index) {
+        return OptionalDouble.empty();
+    }
+
+    default Optional<String> stringValue(byte[] b, int index) {
+        return Optional.empty();
+    }
+
+    default OptionalInt intValue(String[] ss, int index) {
+        return OptionalInt.empty();
+    }
+
+    default OptionalFloat floatValue(String[] ss, int index) {
+        return OptionalFloat.empty();
+    }
+
+    default OptionalDouble doubleValue(String[] ss, int index) {
+        return OptionalDouble.empty();
+    }
+
     VRType SQ = new VRType(){};
 
     VRType UN = new VRType(){
         @Override
-        public Optional<String> stringValue(DicomObject dcmobj, int i, int index) {
-            if (index != 0) return Optional.empty();
+        public String stringValue(DicomObject dcmobj, int i, int index, String defVal) {
+            if (index != 0) return defVal;
             if (dcmobj.values[i] instanceof byte[] b)
-                return Optional.of(promptValueTo(b, new StringBuilder()).toString());
+                return promptValueTo(b, new StringBuilder()).toString();
 
             long header = dcmobj.headers[i];
-            return Optional.of(
-                            promptValueTo(
-                                    dcmobj.dicomInput,
-                                    DicomObject.header2valuePosition(header),
-                                    dcmobj.header2valueLength(header),
-                                    new StringBuilder())
-                                    .toString());
+            return promptValueTo(
+                            dcmobj.dicomInput,
+                            DicomObject.header2valuePosition(header),
+                            dcmobj.header2valueLength(header),
+                            new StringBuilder())
+                    .toString();
+        }
+
+        @Override
+        public Optional<String> stringValue(byte[] b, int index) {
+            return index == 0 ? Optional.of(promptValueTo(b, new StringBuilder()).toString()) : Optional.empty();
         }
 
         private StringBuilder promptValueTo(byte[] b, StringBuilder sb) {
@@ -0,0 +1,153 @@
+package org.dcm4assange;
+
+import org.dcm4assange.util.StringUtils.Trim;
+
+import java.util.Arrays;
+
+/**
+ * Matches the encoded bytes of a string value against an encoded key, without decoding the value. The value is split
+ * at backslashes and each value is trimmed as by {@link StringVR#stringValues(String)}; the value matches if any of
+ * its values matches. Only applicable to values encoded by a character set for which
+ * {@link SpecificCharacterSet#isByteComparable()} returns {@code true}; other values are matched after decoding by
+ * {@link #matches(String[], String, Mode)}.
+ *
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+final class ValueMatcher implements MemoryCache.BytePredicate {
+    private static final byte BACKSLASH = '\\';
+    private final byte[] key;
+    private final Mode mode;
+    private final boolean multi;
+    private final boolean leading;
+    private final boolean trailing;
+    private final boolean utf8;
+
+    enum Mode {
+        EQUALS,
+        STARTS_WITH,
+        /** {@code '*'} in the key matches any sequence of characters, {@code '?'} any single character. */
+        WILDCARD
+    }
+
+    ValueMatcher(byte[] key, Mode mode, boolean multi, Trim trim, boolean utf8) {
+        this.key = key;
+        this.mode = mode;
+        this.multi = multi;
+        this.leading = trim == Trim.LEADING || trim == Trim.LEADING_AND_TRAILING;
+        this.trailing = trim == Trim.TRAILING || trim == Trim.LEADING_AND_TRAILING;
+        this.utf8 = utf8;
+    }
+
+    @Override
+    public boolean test(byte[] b, int off, int len) {
+        if (len == 0)
+            return false;
+
+        int end = off + len;
+        for (int begin = off;;) {
+            int delim = multi ? indexOf(b, BACKSLASH, begin, end) : end;
+            int from = begin;
+            int to = delim;
+            if (leading)
+                while (from < to && (b[from] & 0xff) <= ' ') from++;
+            if (trailing)
+                while (to > from && (b[to - 1] & 0xff) <= ' ') to--;
+            if (matches(b, from, to))
+                return true;
+            if (delim == end)
+                return false;
+            begin = delim + 1;
+        }
+    }
+
+    private boolean matches(byte[] b, int from, int to) {
+        switch (mode) {
+            case EQUALS:
+                return to - from == key.length && Arrays.equals(b, from, to, key, 0, key.length);
+            case STARTS_WITH:
+                return to - from >= key.length && Arrays.equals(b, from, from + key.length, key, 0, key.length);
+        }
+        int i = from;
+        int k = 0;
+        int starK = -1;
+        int starI = from;
+        while (i < to) {
+            if (k < key.length && key[k] == '*') {
+                starK = k++;
+                starI = i;
+            } else if (k < key.length && key[k] == '?') {
+                i = nextChar(b, i, to);
+                k++;
+            } else if (k < key.length && key[k] == b[i]) {
+                i++;
+                k++;
+            } else if (starK >= 0) {
+                k = starK + 1;
+                i = starI = nextChar(b, starI, to);
+            } else {
+                return false;
+            }
+        }
+        while (k < key.length && key[k] == '*') k++;
+        return k == key.length;
+    }
+
+    /**
+     * Returns the index of the character following the character at {@code i}, skipping UTF-8 continuation bytes.
+     */
+    private int nextChar(byte[] b, int i, int to) {
+        if (++i < to && utf8) {
+            while (i < to && (b[i] & 0xc0) == 0x80) i++;
+        }
+        return i;
+    }
+
+    private static int indexOf(byte[] b, byte v, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (b[i] == v) return i;
+        }
+        return to;
+    }
+
+    /**
+     * Matches decoded values against a key.
+     *
+     * @return {@code true} if any value matches
+     */
+    static boolean matches(String[] ss, String key, Mode mode) {
+        for (String s : ss) {
+            if (matches(s, key, mode)) return true;
+        }
+        return false;
+    }
+
+    private static boolean matches(String s, String key, Mode mode) {
+        switch (mode) {
+            case EQUALS:
+                return s.equals(key);
+            case STARTS_WITH:
+                return s.startsWith(key);
+        }
+        int i = 0;
+        int k = 0;
+        int starK = -1;
+        int starI = 0;
+        while (i < s.length()) {
+            if (k < key.length() && key.charAt(k) == '*') {
+                starK = k++;
+                starI = i;
+            } else if (k < key.length() && (key.charAt(k) == '?' || key.charAt(k) == s.charAt(i))) {
+                i++;
+                k++;
+            } else if (starK >= 0) {
+                k = starK + 1;
+                i = ++starI;
+            } else {
+                return false;
+            }
+        }
+        while (k < key.length() && key.charAt(k) == '*') k++;
+        return k == key.length();
+    }
+}
@@ -51,8 +51,8 @@ public enum ToggleEndian {
     LONG {
         @Override
         public int apply(byte[] b, int len) {
-            len &= 0xfffffffa;
-            for (int i = 0, j = 7; i < len; i += 9, j += 11) {
+            len &= 0xfffffff8;
+            for (int i = 0, j = 7; i < len; i += 5, j += 11) {
                 byte tmp = b[i];
                 b[i++] = b[j];
                 b[j--] = tmp;
@@ -0,0 +1,65 @@
+package org.dcm4assange;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public class AttributeSelectorTest {
+
+    private static final AttributeSelector SELECTOR = AttributeSelector.compile(
+            Tag.SelectorUIValue,
+            Tag.SelectorAEValue,
+            Tag.PatientID,
+            Tag.SelectorISValue,
+            Tag.SelectorUSValue,
+            Tag.SelectorFDValue,
+            Tag.SelectorAEValue,
+            Tag.PixelData);
+
+    @Test
+    public void selectFromParsedDataSet() throws IOException {
+        assertSelected(DicomInputStreamTest.readDataset(DicomInputStreamTest.EVR_LE, DicomEncoding.EVR_LE));
+    }
+
+    @Test
+    public void selectFromCreatedDataSet() {
+        assertSelected(DicomObjectTest.createDataset());
+    }
+
+    @Test
+    public void selectFromEmptyDataSet() {
+        String[] strings = SELECTOR.selectStrings(new DicomObject(), null);
+        assertEquals(SELECTOR.size(), strings.length);
+        for (String s : strings) {
+            assertNull(s);
+        }
+    }
+
+    @Test
+    public void selectTagsOfHighGroups() {
+        DicomObject dcmobj = new DicomObject();
+        dcmobj.setString(Tag.PatientID, VR.LO, "PID");
+        dcmobj.setString(Tag.StudyInstanceUID, VR.UI, "1.2.3");
+        dcmobj.setBytes(Tag.DataSetTrailingPadding, VR.OB, new byte[]{ 'T', 'X' });
+        AttributeSelector selector = AttributeSelector.compile(
+                Tag.DataSetTrailingPadding, Tag.StudyInstanceUID, Tag.SeriesInstanceUID, Tag.PatientID);
+        assertArrayEquals(new String[]{ null, "1.2.3", null, "PID" }, selector.selectStrings(dcmobj, null));
+    }
+
+    private static void assertSelected(DicomObject dcmobj) {
+        String[] strings = SELECTOR.selectStrings(dcmobj, new String[SELECTOR.size()]);
+        assertArrayEquals(new String[]{ UID.Verification, "TEXT", null, "1", null, null, "TEXT", null }, strings);
+        int[] ints = SELECTOR.selectInts(dcmobj, null, -2);
+        assertArrayEquals(new int[]{ -2, -2, -2, 1, 0xffff, 1, -2, -2 }, ints);
+        double[] doubles = SELECTOR.selectDoubles(dcmobj, null, Double.NaN);
+        assertEquals(1., doubles[5]);
+        assertTrue(Double.isNaN(doubles[0]));
+        assertTrue(Double.isNaN(doubles[7]));
+    }
+}
@@ -0,0 +1,60 @@
+package org.dcm4assange;
+
+import org.dcm4assange.util.DateTimeUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.Temporal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public class DateTimeParserTest {
+
+    @Test
+    public void parseDA() {
+        for (String s : new String[]{ "19700101", "19691231", "20000229", "21001231", "00010101", "1993.08.22",
+                "1993.0822", "199308.22" }) {
+            assertEquals(DateTimeUtils.parseDA(s).toEpochDay(), DateTimeParser.DA.parse(s), s);
+        }
+        assertEquals(0L, DateTimeParser.DA.parse(" 19700101 \\20000101"));
+        assertEquals(DateTimeParser.NO_VALUE, DateTimeParser.DA.parse("  "));
+        for (String s : new String[]{ "2001022", "20010229", "20011301", "2001-01-01", "1993..0822", "19930822.",
+                "1993.08.2" }) {
+            assertThrows(DateTimeParseException.class, () -> DateTimeParser.DA.parse(s), s);
+        }
+    }
+
+    @Test
+    public void parseTM() {
+        for (String s : new String[]{ "00", "0130", "235959", "235959.999999", "120000.5", "12:30:15.25", "12:30" }) {
+            assertEquals(DateTimeUtils.parseTM(s).toNanoOfDay(), DateTimeParser.TM.parse(s), s);
+        }
+        for (String s : new String[]{ "24", "1260", "0", "123", "120000.1234567", "120000,1", "12:" }) {
+            assertThrows(DateTimeParseException.class, () -> DateTimeParser.TM.parse(s), s);
+        }
+    }
+
+    @Test
+    public void parseDT() {
+        for (String s : new String[]{ "2001", "200102", "20010203", "2001020304", "200102030405",
+                "20010203040506.789", "20010203040506.789+0130", "20010203-0500", "2001+0000" }) {
+            assertEquals(epochMilli(DateTimeUtils.parseDT(s)), DateTimeParser.DT.parse(s), s);
+        }
+        for (String s : new String[]{ "200", "20010", "20010230", "2001020324", "20010203+1", "20010203+1560" }) {
+            assertThrows(DateTimeParseException.class, () -> DateTimeParser.DT.parse(s), s);
+        }
+    }
+
+    private static long epochMilli(Temporal temporal) {
+        return temporal instanceof ZonedDateTime zdt
+                ? zdt.toInstant().toEpochMilli()
+                : ((LocalDateTime) temporal).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
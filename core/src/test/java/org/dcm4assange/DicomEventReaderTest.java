@@ -0,0 +1,78 @@
+package org.dcm4assange;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.dcm4assange.DicomEventReader.Event.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public class DicomEventReaderTest {
+
+    @Test
+    public void readDataSet() throws IOException {
+        try (DicomEventReader reader = new DicomEventReader(
+                new DicomInputStream(new ByteArrayInputStream(DicomInputStreamTest.EVR_LE)))) {
+            int count = 0;
+            while (reader.nextEvent() != END_DATA_SET) {
+                if (reader.level() > 0) continue;
+                assertTrue(reader.event() == ELEMENT
+                        || reader.event() == SEQUENCE_START
+                        || reader.event() == SEQUENCE_END);
+                if (reader.event() == SEQUENCE_END) continue;
+                if (reader.tag() == Tag.SelectorLOValue) {
+                    assertEquals(VR.LO, reader.vr());
+                    assertEquals("TEXT", reader.readString());
+                }
+                count++;
+            }
+            assertEquals(34, count);
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void readUNSequence() throws IOException {
+        try (DicomEventReader reader = new DicomEventReader(
+                new DicomInputStream(new ByteArrayInputStream(DicomInputStreamTest.UN_SEQ_EVR_LE))
+                        .withEncoding(DicomEncoding.EVR_LE))) {
+            assertEquals(ELEMENT, reader.nextEvent());
+            assertEquals("QUASAR_INTERNAL_USE", reader.readString());
+            assertEquals(SEQUENCE_START, reader.nextEvent());
+            assertEquals(0x00371010, reader.tag());
+            assertEquals(ITEM_START, reader.nextEvent());
+            assertEquals(1, reader.level());
+            assertEquals(ELEMENT, reader.nextEvent());
+            assertEquals(1, reader.level());
+            assertEquals(0x00370010, reader.tag());
+            assertEquals(DicomEncoding.EVR_LE, reader.encoding());
+            assertEquals(ITEM_END, reader.nextEvent());
+            assertEquals(SEQUENCE_END, reader.nextEvent());
+            assertEquals(END_DATA_SET, reader.nextEvent());
+            assertEquals(DicomEncoding.EVR_LE, reader.encoding());
+        }
+    }
+
+    @Test
+    public void readFragments() throws IOException {
+        try (DicomEventReader reader = new DicomEventReader(
+                new DicomInputStream(DicomFileStream.encapsPxData(0x100000L), 64))) {
+            assertEquals(FRAGMENTS_START, reader.nextEvent());
+            assertEquals(Tag.PixelData, reader.tag());
+            assertNotNull(reader.fileMetaInformation());
+            assertEquals(FRAGMENT, reader.nextEvent());
+            assertEquals(0, reader.valueLength());
+            assertEquals(FRAGMENT, reader.nextEvent());
+            assertEquals(0x100000, reader.valueLength());
+            assertEquals(FRAGMENTS_END, reader.nextEvent());
+            assertEquals(ELEMENT, reader.nextEvent());
+            assertEquals(Tag.DataSetTrailingPadding, reader.tag());
+            assertEquals(END_DATA_SET, reader.nextEvent());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.dcm4assange;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public class DicomFileScannerTest {
+
+    @Test
+    public void scan() throws IOException {
+        Path dir = Files.createTempDirectory("scan");
+        try {
+            for (int i = 0; i < 8; i++) {
+                Files.copy(DicomFileStream.ivrPxData(0x40000L), dir.resolve(i + ".dcm"));
+            }
+            Files.copy(DicomFileStream.encapsPxData(0x40000L), dir.resolve("encaps.dcm"));
+            Files.write(dir.resolve("garbage.txt"), new byte[]{'n', 'o', ' ', 'd', 'i', 'c', 'o', 'm'});
+            ConcurrentLinkedQueue<DicomObject> dataSets = new ConcurrentLinkedQueue<>();
+            ConcurrentLinkedQueue<Path> failed = new ConcurrentLinkedQueue<>();
+            int processed = new DicomFileScanner()
+                    .withParallelism(4)
+                    .withMemoryBudget(0x80000L)
+                    .withErrorHandler((path, e) -> failed.add(path))
+                    .scan(List.of(dir), (path, fmi, dataSet) -> {
+                        assertNotNull(fmi);
+                        dataSets.add(dataSet);
+                    });
+            assertEquals(9, processed);
+            assertEquals(9, dataSets.size());
+            assertEquals(List.of(dir.resolve("garbage.txt")), List.copyOf(failed));
+            for (DicomObject dataSet : dataSets) {
+                assertFalse(dataSet.contains(Tag.PixelData));
+            }
+        } finally {
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    public void scanWithFailingHandler() throws IOException {
+        Path dir = Files.createTempDirectory("scan");
+        try {
+            for (int i = 0; i < 4; i++) {
+                Files.copy(DicomFileStream.ivrPxData(0x400L), dir.resolve(i + ".dcm"));
+            }
+            DicomFileScanner.Handler handler = (path, fmi, dataSet) -> {
+                if (path.endsWith("2.dcm"))
+                    throw new IllegalStateException("handler failed");
+            };
+            ConcurrentLinkedQueue<Exception> failed = new ConcurrentLinkedQueue<>();
+            int processed = new DicomFileScanner()
+                    .withParallelism(2)
+                    .withErrorHandler((path, e) -> failed.add(e))
+                    .scan(List.of(dir), handler);
+            assertEquals(3, processed);
+            assertEquals(1, failed.size());
+            assertTrue(failed.peek() instanceof IllegalStateException);
+            IOException e = assertThrows(IOException.class,
+                    () -> new DicomFileScanner().withParallelism(2).scan(List.of(dir), handler));
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        } finally {
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+}
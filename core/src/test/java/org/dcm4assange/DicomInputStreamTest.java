@@ -157,7 +157,7 @@ public class DicomInputStreamTest {
             -2, -1, 13, -32, 0, 0, 0, 0,
             -2, -1, -35, -32, 0, 0, 0, 0
     };
-    private static final byte[] UN_SEQ_EVR_LE = {
+    static final byte[] UN_SEQ_EVR_LE = {
             55, 0, 16, 0, 'L', 'O', 20, 0,
             'Q', 'U', 'A', 'S', 'A', 'R', '_', 'I', 'N', 'T', 'E', 'R', 'N', 'A', 'L', '_', 'U', 'S', 'E', ' ',
             55, 0, 16, 16, 'U', 'N', 0, 0, -1, -1, -1, -1,
@@ -237,6 +237,162 @@ public class DicomInputStreamTest {
         assertEquals(34, parseGuessEncoding(DEFL_EVR_LE(), DicomEncoding.DEFL_EVR_LE).size());
     }
 
+    @Test
+    public void readDataSetMemoryMapped() throws IOException {
+        Path file = Files.createTempFile("", ".dcm");
+        try {
+            assertDataSet(parseMemoryMapped(file, IVR_LE, DicomEncoding.IVR_LE));
+            assertDataSet(parseMemoryMapped(file, EVR_LE, DicomEncoding.EVR_LE));
+            assertDataSet(parseMemoryMapped(file, EVR_BE, DicomEncoding.EVR_BE));
+            assertEquals(34, parseMemoryMapped(file, DEFL_EVR_LE(), DicomEncoding.DEFL_EVR_LE).size());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void readDataSetOffHeap() throws IOException {
+        DirectBlockPool pool = new DirectBlockPool(64, 0x10000);
+        DicomObject[] dcmObjs = {
+                parseOffHeap(IVR_LE, DicomEncoding.IVR_LE, pool),
+                parseOffHeap(EVR_LE, DicomEncoding.EVR_LE, pool),
+                parseOffHeap(EVR_BE, DicomEncoding.EVR_BE, pool),
+                parseOffHeap(DEFL_EVR_LE(), DicomEncoding.DEFL_EVR_LE, pool)
+        };
+        assertDataSet(dcmObjs[0]);
+        assertDataSet(dcmObjs[1]);
+        assertDataSet(dcmObjs[2]);
+        assertEquals(34, dcmObjs[3].size());
+        for (DicomObject dcmObj : dcmObjs) {
+            dcmObj.release();
+        }
+        assertEquals(pool.allocatedBytes(), (long) pool.pooledBlocks() * pool.blockSize());
+    }
+
+    @Test
+    public void stopAfterAll() throws IOException {
+        try (DicomInputStream dis = new DicomInputStream(new ByteArrayInputStream(EVR_LE))
+                .withEncoding(DicomEncoding.EVR_LE)
+                .stopAfterAll(Tag.SelectorDAValue, Tag.SelectorASValue)) {
+            DicomObject dcmObj = dis.readDataSet();
+            assertEquals(4, dcmObj.size());
+            assertEquals("20210403", dcmObj.getString(Tag.SelectorDAValue).orElseGet(Assertions::fail));
+            assertFalse(dcmObj.contains(Tag.SelectorCSValue));
+        }
+    }
+
+    @Test
+    public void readDataSetWithTagFilter() throws IOException {
+        DicomObject dcmObj = parseWithTagFilter(EVR_LE, Tag.SelectorDAValue, Tag.SelectorLOValue);
+        assertEquals(2, dcmObj.size());
+        assertEquals("20210403", dcmObj.getString(Tag.SelectorDAValue).orElseGet(Assertions::fail));
+        assertEquals("TEXT", dcmObj.getString(Tag.SelectorLOValue).orElseGet(Assertions::fail));
+        assertFalse(dcmObj.contains(Tag.SelectorASValue));
+    }
+
+    @Test
+    public void readPrivateElementWithTagFilterIVR_LE() throws IOException {
+        byte[] b = {
+                9, 0, 16, 0, 4, 0, 0, 0, 'A', 'C', 'M', 'E',
+                9, 0, 17, 0, 4, 0, 0, 0, 'O', 'T', 'H', 'R',
+                9, 0, 1, 16, 4, 0, 0, 0, 'T', 'E', 'X', 'T',
+                9, 0, 1, 17, 4, 0, 0, 0, 'S', 'K', 'I', 'P',
+                16, 0, 32, 0, 4, 0, 0, 0, 'P', 'I', 'D', ' '
+        };
+        try (DicomInputStream dis = new DicomInputStream(new ByteArrayInputStream(b))
+                .withEncoding(DicomEncoding.IVR_LE)
+                .withTagFilter(0x00091001, Tag.PatientID)) {
+            DicomObject dcmObj = dis.readDataSet();
+            assertEquals(3, dcmObj.size());
+            assertEquals("ACME", dcmObj.privateCreatorOf(0x00091001).orElseGet(Assertions::fail));
+            assertFalse(dcmObj.contains(0x00090011));
+            assertEquals("PID", dcmObj.getString(Tag.PatientID).orElseGet(Assertions::fail));
+        }
+    }
+
+    @Test
+    public void skipUNSequenceWithTagFilter() throws IOException {
+        DicomObject dcmObj = parseWithTagFilter(UN_SEQ_EVR_LE, 0x00370010, Tag.PixelData);
+        assertEquals(1, dcmObj.size());
+        assertEquals("QUASAR_INTERNAL_USE", dcmObj.getString(0x00370010).orElseGet(Assertions::fail));
+    }
+
+    @Test
+    public void readSequenceWithTagPathFilter() throws IOException {
+        try (DicomInputStream dis = new DicomInputStream(new ByteArrayInputStream(UN_SEQ_EVR_LE))
+                .withEncoding(DicomEncoding.EVR_LE)
+                .withTagPathFilter(new int[]{ 0x00371010, 0x00370010 })) {
+            DicomObject dcmObj = dis.readDataSet();
+            assertEquals(2, dcmObj.size());
+            assertEquals("QUASAR_INTERNAL_USE", dcmObj.privateCreatorOf(0x00371010).orElseGet(Assertions::fail));
+            DicomObject.Sequence seq = dcmObj.getSequence(0x00371010).orElseGet(Assertions::fail);
+            assertEquals(1, seq.size());
+            assertEquals(1, seq.getItem(0).size());
+        }
+    }
+
+    @Test
+    public void parseItemsInParallel() throws IOException {
+        DicomObject dataset = new DicomObject();
+        DicomObject.Sequence seq = dataset.newSequence(Tag.PerFrameFunctionalGroupsSequence);
+        for (int i = 0; i < 100; i++) {
+            DicomObject item = new DicomObject();
+            item.setInt(Tag.InStackPositionNumber, VR.UL, i);
+            item.newSequence(Tag.FrameContentSequence).add(new DicomObject());
+            seq.add(item);
+        }
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (DicomOutputStream dos = new DicomOutputStream(bout).withEncoding(DicomEncoding.EVR_LE)) {
+            dos.writeDataSet(dataset);
+        }
+        try (DicomInputStream dis = new DicomInputStream(new ByteArrayInputStream(bout.toByteArray()))
+                .withEncoding(DicomEncoding.EVR_LE)
+                .withParseItemsInParallel(10)) {
+            DicomObject parsed = dis.readDataSet();
+            DicomObject.Sequence parsedSeq = parsed.getSequence(Tag.PerFrameFunctionalGroupsSequence)
+                    .orElseGet(Assertions::fail);
+            assertEquals(100, parsedSeq.size());
+            for (int i = 0; i < 100; i++) {
+                DicomObject item = parsedSeq.getItem(i);
+                assertEquals(2, item.size);
+                assertEquals(i, item.getInt(Tag.InStackPositionNumber).orElseGet(Assertions::fail));
+                assertEquals(-1, item.getSequence(Tag.FrameContentSequence).orElseGet(Assertions::fail)
+                        .getItem(0).size);
+            }
+        }
+    }
+
+    @Test
+    public void parseNestedItemsInParallel() throws IOException {
+        DicomObject dataset = new DicomObject();
+        DicomObject outerItem = new DicomObject();
+        dataset.newSequence(Tag.SharedFunctionalGroupsSequence).add(outerItem);
+        DicomObject.Sequence seq = outerItem.newSequence(Tag.FrameContentSequence);
+        for (int i = 0; i < 20; i++) {
+            DicomObject item = new DicomObject();
+            item.setInt(Tag.InStackPositionNumber, VR.UL, i);
+            seq.add(item);
+        }
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (DicomOutputStream dos = new DicomOutputStream(bout).withEncoding(DicomEncoding.EVR_LE)) {
+            dos.writeDataSet(dataset);
+        }
+        try (DicomInputStream dis = new DicomInputStream(new ByteArrayInputStream(bout.toByteArray()))
+                .withEncoding(DicomEncoding.EVR_LE)
+                .withParseItemsInParallel(10)) {
+            DicomObject parsed = dis.readDataSet();
+            DicomObject parsedOuterItem = parsed.getSequence(Tag.SharedFunctionalGroupsSequence)
+                    .orElseGet(Assertions::fail).getItem(0);
+            assertEquals(-1, parsedOuterItem.size);
+            DicomObject.Sequence parsedSeq = parsedOuterItem.getSequence(Tag.FrameContentSequence)
+                    .orElseGet(Assertions::fail);
+            assertEquals(20, parsedSeq.size());
+            for (int i = 0; i < 20; i++) {
+                assertEquals(1, parsedSeq.getItem(i).size);
+            }
+        }
+    }
+
     @Test
     public void readCommandSet() throws IOException {
         assert_c_echo_rq(c_echo_rq());
@@ -310,6 +466,60 @@ public class DicomInputStreamTest {
         parseBulkData(DicomFileStream.encapsPxData(0x40000L), "#offset=186,length=-1");
     }
 
+    @Test
+    public void parseBulkDataMemoryMapped() throws IOException {
+        parseBulkData(DicomFileStream.ivrPxData(0x40000L), "#offset=178,length=262144", true);
+        parseBulkData(DicomFileStream.encapsPxData(0x40000L), "#offset=186,length=-1", true);
+    }
+
+    @Test
+    public void exceedMaxAllocatedBytesOffHeap() throws IOException {
+        DirectBlockPool pool = new DirectBlockPool(64, 128);
+        try (DicomInputStream dis = new DicomInputStream(new ByteArrayInputStream(IVR_LE), pool)) {
+            assertThrows(IOException.class, dis::readDataSet);
+        }
+        assertEquals(128, pool.allocatedBytes());
+    }
+
+    @Test
+    public void parseBulkDataOffHeap() throws IOException {
+        DirectBlockPool pool = new DirectBlockPool(64, 0x10000);
+        try (DicomInputStream dis = new DicomInputStream(DicomFileStream.encapsPxData(0x40000L), pool)
+                .withoutBulkData()) {
+            DicomObject dcmObj = dis.readDataSet();
+            assertFalse(dcmObj.contains(Tag.PixelData));
+            assertTrue(dcmObj.contains(Tag.DataSetTrailingPadding));
+            dcmObj.release();
+        }
+        assertEquals(pool.allocatedBytes(), (long) pool.pooledBlocks() * pool.blockSize());
+    }
+
+    @Test
+    public void writeElementAfterSkippedBulkData() throws IOException {
+        byte[] trailingPadding = { -4, -1, -4, -1, 4, 0, 0, 0, 'T', 'E', 'X', 'T' };
+        byte[] b = new byte[8 + 256 + trailingPadding.length];
+        System.arraycopy(new byte[]{ -32, 0x7F, 0x10, 0, 0, 1, 0, 0 }, 0, b, 0, 8);
+        System.arraycopy(trailingPadding, 0, b, 8 + 256, trailingPadding.length);
+        DirectBlockPool pool = new DirectBlockPool(64, 0x10000);
+        try (DicomInputStream heap = new DicomInputStream(new ByteArrayInputStream(b))
+                .withEncoding(DicomEncoding.IVR_LE).withoutBulkData();
+             DicomInputStream offHeap = new DicomInputStream(new ByteArrayInputStream(b), pool)
+                .withEncoding(DicomEncoding.IVR_LE).withoutBulkData()) {
+            assertArrayEquals(trailingPadding, writeDataSet(heap.readDataSet(), DicomEncoding.IVR_LE));
+            DicomObject dcmObj = offHeap.readDataSet();
+            assertArrayEquals(trailingPadding, writeDataSet(dcmObj, DicomEncoding.IVR_LE));
+            dcmObj.release();
+        }
+    }
+
+    private static byte[] writeDataSet(DicomObject dcmObj, DicomEncoding encoding) throws IOException {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (DicomOutputStream dos = new DicomOutputStream(bout).withEncoding(encoding)) {
+            dos.writeDataSet(dcmObj);
+        }
+        return bout.toByteArray();
+    }
+
     @Test
     public void spoolBulkDataIVR_LE() throws IOException {
         spoolBulkData(DicomFileStream.ivrPxData(0x40000L), "#offset=0,length=262144", 262144);
@@ -349,9 +559,13 @@ public class DicomInputStreamTest {
     }
 
     static void parseBulkData(DicomFileStream dfs, String fragment) throws IOException {
+        parseBulkData(dfs, fragment, false);
+    }
+
+    static void parseBulkData(DicomFileStream dfs, String fragment, boolean memoryMapped) throws IOException {
         Path file =  Files.createTempFile("", ".dcm");
         Files.copy(dfs, file, StandardCopyOption.REPLACE_EXISTING);
-        try (DicomInputStream dis = new DicomInputStream(file).withoutBulkData()) {
+        try (DicomInputStream dis = new DicomInputStream(file, memoryMapped).withoutBulkData()) {
             DicomObject dcmObj = dis.readDataSet();
             assertEquals(file.toUri() + fragment,
                     dcmObj.getBulkDataURI(Tag.PixelData).orElseGet(Assertions::fail));
@@ -387,6 +601,31 @@ public class DicomInputStreamTest {
         }
     }
 
+    static DicomObject parseWithTagFilter(byte[] b, int... tags) throws IOException {
+        try (DicomInputStream dis = new DicomInputStream(new ByteArrayInputStream(b))
+                .withEncoding(DicomEncoding.EVR_LE)
+                .withTagFilter(tags)) {
+            return dis.readDataSet();
+        }
+    }
+
+    static DicomObject parseMemoryMapped(Path file, byte[] b, DicomEncoding encoding) throws IOException {
+        Files.write(file, b);
+        try (DicomInputStream dis = new DicomInputStream(file, true)) {
+            DicomObject dcmObj = dis.readDataSet();
+            assertEquals(encoding, dis.encoding());
+            return dcmObj;
+        }
+    }
+
+    static DicomObject parseOffHeap(byte[] b, DicomEncoding encoding, DirectBlockPool pool) throws IOException {
+        try (DicomInputStream dis = new DicomInputStream(new ByteArrayInputStream(b), pool)) {
+            DicomObject dcmObj = dis.readDataSet();
+            assertEquals(encoding, dis.encoding());
+            return dcmObj;
+        }
+    }
+
     static DicomObject parseGuessEncoding(byte[] b, DicomEncoding encoding) throws IOException {
         try (DicomInputStream dis = new DicomInputStream(new ByteArrayInputStream(b))) {
             DicomObject dcmObj = dis.readDataSet();
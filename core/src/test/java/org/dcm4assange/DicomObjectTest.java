@@ -21,8 +21,20 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -57,6 +69,437 @@ public class DicomObjectTest {
         DicomInputStreamTest.assertDataSet(createDataset());
     }
 
+    @Test
+    public void getWithDefault() throws IOException {
+        DicomObject created = createDataset();
+        created.setInt(Tag.SelectorUSValue, VR.US, 1, 2, 3);
+        assertGetWithDefault(created);
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (DicomOutputStream dos = new DicomOutputStream(bout).withEncoding(DicomEncoding.EVR_LE)) {
+            dos.writeDataSet(created);
+        }
+        assertGetWithDefault(DicomInputStreamTest.readDataset(bout.toByteArray(), DicomEncoding.EVR_LE));
+    }
+
+    private static void assertGetWithDefault(DicomObject dcmObj) {
+        assertEquals(1, dcmObj.getInt(Tag.SelectorISValue, 0, -2));
+        assertEquals(-2, dcmObj.getInt(Tag.SelectorISValue, 1, -2));
+        assertEquals(3, dcmObj.getInt(Tag.SelectorUSValue, 2, -2));
+        assertEquals(-2, dcmObj.getInt(Tag.SelectorUSValue, 3, -2));
+        assertEquals(-2, dcmObj.getInt(Tag.PatientID, 0, -2));
+        assertEquals(0xffffffffL, dcmObj.getLong(Tag.SelectorULValue, 0, 0L));
+        assertEquals(0L, dcmObj.getLong(Tag.SelectorATValue, 0, 0L));
+        assertEquals(1.f, dcmObj.getFloat(Tag.SelectorFLValue, 0, Float.NaN));
+        assertEquals(1., dcmObj.getDouble(Tag.SelectorFDValue, 0, Double.NaN));
+        assertEquals("TEXT", dcmObj.getString(Tag.SelectorLOValue, 0, null));
+        assertEquals("TEXT", dcmObj.getString(Tag.SelectorUNValue, 0, null));
+        assertNull(dcmObj.getString(Tag.SelectorLOValue, 1, null));
+        assertEquals("-", dcmObj.getString(Tag.PatientID, 0, "-"));
+        int[] ints = new int[2];
+        assertEquals(3, dcmObj.getInts(Tag.SelectorUSValue, ints));
+        assertArrayEquals(new int[]{ 1, 2 }, ints);
+        assertEquals(1, dcmObj.getInts(Tag.SelectorISValue, ints));
+        assertEquals(1, ints[0]);
+        assertEquals(0, dcmObj.getInts(Tag.PatientID, ints));
+    }
+
+    @Test
+    public void getNumericArrays() throws IOException {
+        int[] lut = new int[4096];
+        float[] points = new float[10000];
+        for (int i = 0; i < lut.length; i++) {
+            lut[i] = 0xffff - i;
+        }
+        for (int i = 0; i < points.length; i++) {
+            points[i] = i * 0.5f;
+        }
+        DicomObject created = new DicomObject();
+        created.setInt(Tag.LUTData, VR.US, lut);
+        created.setFloat(Tag.SelectorFLValue, VR.FL, points);
+        created.setDouble(Tag.SelectorFDValue, VR.FD, 1., -1.);
+        created.setInt(Tag.SelectorATValue, VR.AT, Tag.PatientID);
+        assertNumericArrays(created, lut, points);
+        for (DicomEncoding encoding : new DicomEncoding[]{ DicomEncoding.EVR_LE, DicomEncoding.EVR_BE }) {
+            ByteArrayOutputStream bout = new ByteArrayOutputStream();
+            try (DicomOutputStream dos = new DicomOutputStream(bout).withEncoding(encoding)) {
+                dos.writeDataSet(created);
+            }
+            assertNumericArrays(DicomInputStreamTest.readDataset(bout.toByteArray(), encoding), lut, points);
+        }
+    }
+
+    private static void assertNumericArrays(DicomObject dcmObj, int[] lut, float[] points) {
+        assertArrayEquals(lut, dcmObj.getInts(Tag.LUTData));
+        short[] shorts = dcmObj.getShorts(Tag.LUTData);
+        assertEquals(lut.length, shorts.length);
+        assertEquals((short) 0xffff, shorts[0]);
+        assertArrayEquals(points, dcmObj.getFloats(Tag.SelectorFLValue));
+        assertEquals(points[9999], dcmObj.getDoubles(Tag.SelectorFLValue)[9999]);
+        assertArrayEquals(new double[]{ 1., -1. }, dcmObj.getDoubles(Tag.SelectorFDValue));
+        assertArrayEquals(new int[]{ 1, -1 }, dcmObj.getInts(Tag.SelectorFDValue));
+        assertArrayEquals(new int[]{ Tag.PatientID }, dcmObj.getInts(Tag.SelectorATValue));
+        assertEquals(0, dcmObj.getFloats(Tag.SelectorATValue).length);
+        assertEquals(0, dcmObj.getInts(Tag.PatientID).length);
+    }
+
+    @Test
+    public void getNumericStrings() throws IOException {
+        DicomObject created = new DicomObject();
+        created.setString(Tag.ImagePositionPatient, VR.DS, "-125.5", "-130.25", "87.0");
+        created.setString(Tag.PixelSpacing, VR.DS, "0.48828125", "0.48828125");
+        created.setString(Tag.InstanceNumber, VR.IS, "42");
+        assertNumericStrings(created);
+        assertNumericStrings(DicomInputStreamTest.readDataset(toBytes(created), DicomEncoding.EVR_LE));
+    }
+
+    private static void assertNumericStrings(DicomObject dcmObj) {
+        assertArrayEquals(new double[]{ -125.5, -130.25, 87. }, dcmObj.getDoubles(Tag.ImagePositionPatient));
+        assertArrayEquals(new float[]{ 0.48828125f, 0.48828125f }, dcmObj.getFloats(Tag.PixelSpacing));
+        assertArrayEquals(new int[]{ -125, -130, 87 }, dcmObj.getInts(Tag.ImagePositionPatient));
+        assertEquals(87., dcmObj.getDouble(Tag.ImagePositionPatient, 2, Double.NaN));
+        assertEquals(-130.25, dcmObj.getDouble(Tag.ImagePositionPatient, 1).orElseGet(Assertions::fail));
+        assertFalse(dcmObj.getDouble(Tag.ImagePositionPatient, 3).isPresent());
+        assertEquals(42., dcmObj.getDouble(Tag.InstanceNumber, 0, Double.NaN));
+        assertEquals(42.f, dcmObj.getFloat(Tag.InstanceNumber).orElseGet(Assertions::fail));
+        assertArrayEquals(new double[]{ 42. }, dcmObj.getDoubles(Tag.InstanceNumber));
+        assertEquals(42, dcmObj.getInt(Tag.InstanceNumber, 0, -1));
+    }
+
+    @Test
+    public void copyOnWrite() throws IOException {
+        DicomObject created = new DicomObject();
+        created.setString(Tag.PatientID, VR.LO, "PID");
+        DicomObject.Sequence seq = created.newSequence(Tag.ReferencedSeriesSequence);
+        for (int i = 0; i < 3; i++) {
+            DicomObject item = new DicomObject();
+            item.setString(Tag.SeriesInstanceUID, VR.UI, "1.2." + i);
+            item.newSequence(Tag.ReferencedSOPSequence).add(new DicomObject());
+            seq.add(item);
+        }
+        byte[] expected = toBytes(created);
+        assertCopyOnWrite(created, expected);
+        assertCopyOnWrite(DicomInputStreamTest.readDataset(expected, DicomEncoding.EVR_LE), expected);
+    }
+
+    private static void assertCopyOnWrite(DicomObject original, byte[] expected) throws IOException {
+        DicomObject copy = original.copy();
+        DicomObject copiedItem = copy.getItem(Tag.ReferencedSeriesSequence).orElseGet(Assertions::fail);
+        assertSame(copy, copiedItem.getParent());
+        DicomObject.Sequence copiedNestedSeq = copiedItem.getSequence(Tag.ReferencedSOPSequence)
+                .orElseGet(Assertions::fail);
+        Object[] values = copiedItem.values;
+        assertSame(copiedItem, copiedNestedSeq.containedBy());
+        assertSame(copiedNestedSeq.getItem(0),
+                copiedItem.getItem(Tag.ReferencedSOPSequence).orElseGet(Assertions::fail));
+        assertFalse(copiedItem.getSequence(Tag.FrameContentSequence).isPresent());
+        assertFalse(copiedItem.getFragments(Tag.PixelData).isPresent());
+        assertSame(values, copiedItem.values);
+        copiedItem.setString(Tag.SeriesInstanceUID, VR.UI, "1.2.3");
+        copiedItem.getItem(Tag.ReferencedSOPSequence).orElseGet(Assertions::fail)
+                .setString(Tag.ReferencedSOPInstanceUID, VR.UI, "1.2.3.4");
+        copy.getSequence(Tag.ReferencedSeriesSequence).orElseGet(Assertions::fail).add(new DicomObject());
+        copy.setString(Tag.PatientID, VR.LO, "COPY");
+        assertArrayEquals(expected, toBytes(original));
+
+        DicomObject originalItem = original.getSequence(Tag.ReferencedSeriesSequence)
+                .orElseGet(Assertions::fail).getItem(1);
+        originalItem.setString(Tag.SeriesInstanceUID, VR.UI, "1.2.4");
+        DicomObject copied = DicomInputStreamTest.readDataset(toBytes(copy), DicomEncoding.EVR_LE);
+        DicomObject.Sequence copiedSeq = copied.getSequence(Tag.ReferencedSeriesSequence)
+                .orElseGet(Assertions::fail);
+        assertEquals(4, copiedSeq.size());
+        assertEquals("COPY", copied.getString(Tag.PatientID).orElseGet(Assertions::fail));
+        assertEquals("1.2.3", copiedSeq.getItem(0).getString(Tag.SeriesInstanceUID).orElseGet(Assertions::fail));
+        assertEquals("1.2.1", copiedSeq.getItem(1).getString(Tag.SeriesInstanceUID).orElseGet(Assertions::fail));
+        assertEquals("1.2.3.4", copiedSeq.getItem(0).getItem(Tag.ReferencedSOPSequence)
+                .orElseGet(Assertions::fail).getString(Tag.ReferencedSOPInstanceUID).orElseGet(Assertions::fail));
+        assertEquals("1.2.4", originalItem.getString(Tag.SeriesInstanceUID).orElseGet(Assertions::fail));
+    }
+
+    @Test
+    public void diff() throws IOException {
+        DicomObject created = createSeries();
+        byte[] encoded = toBytes(created);
+        DicomObject parsed = DicomInputStreamTest.readDataset(encoded, DicomEncoding.EVR_LE);
+        assertEquals(List.of(), parsed.diff(created));
+        assertEquals(List.of(), created.diff(parsed));
+        assertEquals(List.of(), parsed.diff(DicomInputStreamTest.readDataset(encoded, DicomEncoding.EVR_LE)));
+        assertEquals(List.of(), parsed.diff(parsed.copy()));
+        assertEquals(List.of(
+                new DicomObject.Difference(DicomObject.Change.MODIFIED,
+                        Tag.ReferencedSeriesSequence, 1, Tag.SeriesInstanceUID),
+                new DicomObject.Difference(DicomObject.Change.ADDED, Tag.ReferencedSeriesSequence, 2),
+                new DicomObject.Difference(DicomObject.Change.MODIFIED, Tag.PatientID),
+                new DicomObject.Difference(DicomObject.Change.ADDED, Tag.StudyInstanceUID)),
+                parsed.diff(modifySeries(DicomInputStreamTest.readDataset(encoded, DicomEncoding.EVR_LE))));
+        assertEquals(List.of(
+                new DicomObject.Difference(DicomObject.Change.MODIFIED,
+                        Tag.ReferencedSeriesSequence, 1, Tag.SeriesInstanceUID),
+                new DicomObject.Difference(DicomObject.Change.REMOVED, Tag.ReferencedSeriesSequence, 2),
+                new DicomObject.Difference(DicomObject.Change.MODIFIED, Tag.PatientID),
+                new DicomObject.Difference(DicomObject.Change.REMOVED, Tag.StudyInstanceUID)),
+                modifySeries(created.copy()).diff(parsed));
+    }
+
+    @Test
+    public void update() throws IOException {
+        byte[] encoded = toBytes(createSeries());
+        DicomObject modified = modifySeries(DicomInputStreamTest.readDataset(encoded, DicomEncoding.EVR_LE));
+
+        DicomObject supplemented = DicomInputStreamTest.readDataset(encoded, DicomEncoding.EVR_LE);
+        assertTrue(supplemented.update(modified, DicomObject.UpdatePolicy.SUPPLEMENT));
+        assertEquals("PID", supplemented.getString(Tag.PatientID).orElseGet(Assertions::fail));
+        assertEquals("1.2.3", supplemented.getString(Tag.StudyInstanceUID).orElseGet(Assertions::fail));
+        assertFalse(supplemented.update(modified, DicomObject.UpdatePolicy.SUPPLEMENT));
+
+        DicomObject overwritten = DicomInputStreamTest.readDataset(encoded, DicomEncoding.EVR_LE);
+        overwritten.getSequence(Tag.ReferencedSeriesSequence).orElseGet(Assertions::fail).getItem(0)
+                .setString(Tag.SeriesDescription, VR.LO, "DESC");
+        assertTrue(overwritten.update(modified, DicomObject.UpdatePolicy.OVERWRITE));
+        assertEquals(List.of(), overwritten.diff(modified));
+        assertFalse(overwritten.update(modified, DicomObject.UpdatePolicy.OVERWRITE));
+        assertArrayEquals(toBytes(modified), toBytes(overwritten));
+
+        DicomObject merged = DicomInputStreamTest.readDataset(encoded, DicomEncoding.EVR_LE);
+        merged.getSequence(Tag.ReferencedSeriesSequence).orElseGet(Assertions::fail).getItem(0)
+                .setString(Tag.SeriesDescription, VR.LO, "DESC");
+        assertTrue(merged.update(modified, DicomObject.UpdatePolicy.MERGE));
+        assertEquals(List.of(new DicomObject.Difference(DicomObject.Change.REMOVED,
+                        Tag.ReferencedSeriesSequence, 0, Tag.SeriesDescription)),
+                merged.diff(modified));
+
+        DicomObject created = new DicomObject();
+        assertTrue(created.update(modified, DicomObject.UpdatePolicy.OVERWRITE));
+        assertArrayEquals(toBytes(modified), toBytes(created));
+    }
+
+    @Test
+    public void updateFromReleasedStream() throws IOException {
+        byte[] encoded = toBytes(modifySeries(createSeries()));
+        DirectBlockPool pool = new DirectBlockPool(64, 0x10000);
+        DicomObject source = parseOffHeap(encoded, pool);
+        DicomObject merged = createSeries();
+        assertTrue(merged.update(source, DicomObject.UpdatePolicy.MERGE));
+        DicomObject overwritten = new DicomObject();
+        assertTrue(overwritten.update(source, DicomObject.UpdatePolicy.OVERWRITE));
+        DicomObject encaps;
+        try (DicomInputStream dis = new DicomInputStream(DicomFileStream.encapsPxData(0x100L), pool)) {
+            encaps = dis.readDataSet();
+        }
+        DicomObject withFragments = new DicomObject();
+        assertTrue(withFragments.update(encaps, DicomObject.UpdatePolicy.OVERWRITE));
+        byte[] encapsEncoded = toBytes(encaps);
+        source.release();
+        encaps.release();
+        parseOffHeap(toBytes(createSeries()), pool);
+
+        DicomObject expected = DicomInputStreamTest.readDataset(encoded, DicomEncoding.EVR_LE);
+        assertEquals(List.of(), merged.diff(expected));
+        assertEquals(List.of(), overwritten.diff(expected));
+        assertEquals("1.2.3.2", merged.getSequence(Tag.ReferencedSeriesSequence).orElseGet(Assertions::fail)
+                .getItem(2).getString(Tag.SeriesInstanceUID).orElseGet(Assertions::fail));
+        assertArrayEquals(encoded, toBytes(overwritten));
+        FrozenDicomObject frozen = withFragments.freeze();
+        assertEquals(2, frozen.getNumberOfFragments(Tag.PixelData));
+        assertEquals(0x100, frozen.getFragment(Tag.PixelData, 1).orElseGet(Assertions::fail).length);
+        assertEquals(List.of(), withFragments.diff(withFragments.copy()));
+        assertArrayEquals(encapsEncoded, toBytes(withFragments));
+        FrozenDicomObject written = DicomInputStreamTest.readDataset(encapsEncoded, DicomEncoding.EVR_LE).freeze();
+        assertEquals(2, written.getNumberOfFragments(Tag.PixelData));
+        assertEquals(0x100, written.getFragment(Tag.PixelData, 1).orElseGet(Assertions::fail).length);
+    }
+
+    @Test
+    public void updateSpecificCharacterSet() throws IOException {
+        DicomObject latin1 = new DicomObject();
+        latin1.setString(Tag.SpecificCharacterSet, VR.CS, "ISO_IR 100");
+        latin1.setString(Tag.PatientName, VR.PN, "Äpfel^Änne");
+        latin1.setString(Tag.PatientID, VR.LO, "Ö");
+        DicomObject parsed = DicomInputStreamTest.readDataset(toBytes(latin1), DicomEncoding.EVR_LE);
+        DicomObject utf8 = new DicomObject();
+        utf8.setString(Tag.SpecificCharacterSet, VR.CS, "ISO_IR 192");
+        utf8.setString(Tag.PatientName, VR.PN, "Äpfel^Änne");
+        assertEquals(List.of(new DicomObject.Difference(DicomObject.Change.MODIFIED, Tag.SpecificCharacterSet),
+                new DicomObject.Difference(DicomObject.Change.REMOVED, Tag.PatientID)),
+                parsed.diff(utf8));
+        assertTrue(parsed.update(utf8, DicomObject.UpdatePolicy.OVERWRITE));
+        DicomObject reparsed = DicomInputStreamTest.readDataset(toBytes(parsed), DicomEncoding.EVR_LE);
+        assertEquals("ISO_IR 192", reparsed.getString(Tag.SpecificCharacterSet).orElseGet(Assertions::fail));
+        assertEquals("Äpfel^Änne", reparsed.getString(Tag.PatientName).orElseGet(Assertions::fail));
+        assertEquals("Ö", reparsed.getString(Tag.PatientID).orElseGet(Assertions::fail));
+    }
+
+    @Test
+    public void matchValues() throws IOException {
+        assertMatchValues("Müller^Jürgen", "Müller^Jürgen=ミュラー^ユルゲン", "ISO_IR 192");
+        assertMatchValues("Yamada^Tarou", "Yamada^Tarou=山田^太郎", "", "ISO 2022 IR 87");
+    }
+
+    private static void assertMatchValues(String alphabetic, String name, String... cs) throws IOException {
+        DicomObject created = new DicomObject();
+        created.setString(Tag.SpecificCharacterSet, VR.CS, cs);
+        created.setString(Tag.PatientName, VR.PN, name);
+        created.setString(Tag.PatientID, VR.LO, "PID1", "PID2");
+        created.setString(Tag.StudyInstanceUID, VR.UI, "1.2.840.10008.1");
+        assertMatchValues(created, alphabetic, name);
+        DicomObject parsed = DicomInputStreamTest.readDataset(toBytes(created), DicomEncoding.EVR_LE);
+        assertMatchValues(parsed, alphabetic, name);
+        assertNull(parsed.values[Arrays.binarySearch(parsed.tags, 0, parsed.size(), Tag.StudyInstanceUID)]);
+    }
+
+    private static void assertMatchValues(DicomObject dcmobj, String alphabetic, String name) {
+        assertTrue(dcmobj.valueEquals(Tag.PatientID, "PID2"));
+        assertFalse(dcmobj.valueEquals(Tag.PatientID, "PID"));
+        assertFalse(dcmobj.valueEquals(Tag.SeriesInstanceUID, "PID1"));
+        assertTrue(dcmobj.valueEquals(Tag.StudyInstanceUID, "1.2.840.10008.1"));
+        assertTrue(dcmobj.valueEquals(Tag.StudyInstanceUID, "1.2.840.10008.1".getBytes(StandardCharsets.US_ASCII)));
+        assertTrue(dcmobj.valueEquals(Tag.PatientName, name));
+        assertTrue(dcmobj.startsWith(Tag.StudyInstanceUID, "1.2.840."));
+        assertFalse(dcmobj.startsWith(Tag.StudyInstanceUID, "1.2.840.10008.1.1"));
+        assertTrue(dcmobj.startsWith(Tag.PatientName, alphabetic + '='));
+        assertTrue(dcmobj.matchesWildcard(Tag.PatientID, "P*2"));
+        assertTrue(dcmobj.matchesWildcard(Tag.PatientID, "PID?"));
+        assertFalse(dcmobj.matchesWildcard(Tag.PatientID, "PID"));
+        assertTrue(dcmobj.matchesWildcard(Tag.PatientName, name.substring(0, 1) + '*'));
+        assertTrue(dcmobj.matchesWildcard(Tag.PatientName,
+                '*' + name.substring(name.length() - 4, name.length() - 1) + '?'));
+        assertFalse(dcmobj.matchesWildcard(Tag.PatientName, alphabetic));
+    }
+
+    @Test
+    public void getDateTime() throws IOException {
+        DicomObject created = new DicomObject();
+        created.setString(Tag.StudyDate, VR.DA, "20260315");
+        created.setString(Tag.StudyTime, VR.TM, "103015.5");
+        created.setString(Tag.AcquisitionDateTime, VR.DT, "20260315103015.5+0100");
+        created.setString(Tag.PatientBirthDate, VR.DA, "19700102");
+        created.setString(Tag.ContentDate, VR.DA);
+        assertDateTime(created);
+        assertDateTime(DicomInputStreamTest.readDataset(toBytes(created), DicomEncoding.EVR_LE));
+    }
+
+    private static void assertDateTime(DicomObject dcmobj) {
+        long studyDateTime = LocalDateTime.of(2026, 3, 15, 10, 30, 15, 500_000_000)
+                .toInstant(ZoneOffset.UTC).toEpochMilli();
+        assertEquals(LocalDate.of(2026, 3, 15).toEpochDay(), dcmobj.getDate(Tag.StudyDate).orElseGet(Assertions::fail));
+        assertEquals(LocalTime.of(10, 30, 15, 500_000_000).toNanoOfDay(), dcmobj.getTime(Tag.StudyTime, -1L));
+        assertEquals(studyDateTime, dcmobj.getDateTimeMillis(Tag.StudyDateAndTime).orElseGet(Assertions::fail));
+        assertEquals(studyDateTime - 3600_000L, dcmobj.getDateTimeMillis(Tag.AcquisitionDateTime, -1L));
+        assertEquals(86400_000L, dcmobj.getDateTimeMillis(Tag.PatientBirthDateAndTime, -1L));
+        assertFalse(dcmobj.getDate(Tag.ContentDate).isPresent());
+        assertEquals(-1L, dcmobj.getDateTimeMillis(Tag.ContentDateAndTime, -1L));
+    }
+
+    private static DicomObject parseOffHeap(byte[] b, DirectBlockPool pool) throws IOException {
+        try (DicomInputStream dis = new DicomInputStream(new ByteArrayInputStream(b), pool)
+                .withEncoding(DicomEncoding.EVR_LE)) {
+            return dis.readDataSet();
+        }
+    }
+
+    private static DicomObject createSeries() {
+        DicomObject dcmobj = new DicomObject();
+        dcmobj.setString(Tag.PatientName, VR.PN, "Doe^John");
+        dcmobj.setString(Tag.PatientID, VR.LO, "PID");
+        DicomObject.Sequence seq = dcmobj.newSequence(Tag.ReferencedSeriesSequence);
+        for (int i = 0; i < 2; i++) {
+            DicomObject item = new DicomObject();
+            item.setString(Tag.SeriesInstanceUID, VR.UI, "1.2.3." + i);
+            item.newSequence(Tag.ReferencedSOPSequence).add(new DicomObject());
+            seq.add(item);
+        }
+        return dcmobj;
+    }
+
+    private static DicomObject modifySeries(DicomObject dcmobj) {
+        DicomObject.Sequence seq = dcmobj.getSequence(Tag.ReferencedSeriesSequence).orElseGet(Assertions::fail);
+        seq.getItem(1).setString(Tag.SeriesInstanceUID, VR.UI, "1.2.3.4");
+        DicomObject item = new DicomObject();
+        item.setString(Tag.SeriesInstanceUID, VR.UI, "1.2.3.2");
+        seq.add(item);
+        dcmobj.setString(Tag.PatientID, VR.LO, "NEW");
+        dcmobj.setString(Tag.StudyInstanceUID, VR.UI, "1.2.3");
+        return dcmobj;
+    }
+
+    private static byte[] toBytes(DicomObject dcmobj) throws IOException {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (DicomOutputStream dos = new DicomOutputStream(bout).withEncoding(DicomEncoding.EVR_LE)) {
+            dos.writeDataSet(dcmobj);
+        }
+        return bout.toByteArray();
+    }
+
+    @Test
+    public void lookupInLargeDataSet() throws IOException {
+        DicomObject dataset = new DicomObject();
+        for (int i = 0; i < 200; i++) {
+            dataset.setInt(0x00091000 + i, VR.US, i);
+        }
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (DicomOutputStream dos = new DicomOutputStream(bout).withEncoding(DicomEncoding.EVR_LE)) {
+            dos.writeDataSet(dataset);
+        }
+        DicomObject parsed = DicomInputStreamTest.readDataset(bout.toByteArray(), DicomEncoding.EVR_LE);
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, parsed.getInt(0x00091000 + i).orElseGet(Assertions::fail));
+        }
+        assertFalse(parsed.contains(0x000910c8));
+        parsed.setInt(0x000910c8, VR.US, 200);
+        parsed.setInt(0x00080000, VR.UL, 0);
+        assertEquals(200, parsed.getInt(0x000910c8).orElseGet(Assertions::fail));
+        assertEquals(0, parsed.getInt(0x00080000).orElseGet(Assertions::fail));
+        assertEquals(199, parsed.getInt(0x000910c7).orElseGet(Assertions::fail));
+    }
+
+    @Test
+    public void parseDeferredItemsConcurrently() throws Exception {
+        DicomObject dataset = new DicomObject();
+        DicomObject.Sequence seq = dataset.newSequence(Tag.PerFrameFunctionalGroupsSequence);
+        for (int i = 0; i < 64; i++) {
+            DicomObject item = new DicomObject();
+            for (int j = 0; j < 40; j++) {
+                item.setInt(0x00091000 + j, VR.UL, i * 40 + j);
+            }
+            seq.add(item);
+        }
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (DicomOutputStream dos = new DicomOutputStream(bout).withEncoding(DicomEncoding.EVR_LE)) {
+            dos.writeDataSet(dataset);
+        }
+        byte[] b = bout.toByteArray();
+        int nThreads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+        try {
+            for (int round = 0; round < 50; round++) {
+                DicomObject.Sequence parsedSeq = DicomInputStreamTest.readDataset(b, DicomEncoding.EVR_LE)
+                        .getSequence(Tag.PerFrameFunctionalGroupsSequence).orElseGet(Assertions::fail);
+                CyclicBarrier barrier = new CyclicBarrier(nThreads);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < nThreads; t++) {
+                    int offset = t;
+                    futures.add(executor.submit(() -> {
+                        barrier.await();
+                        for (int k = 0; k < 64; k++) {
+                            int i = (k + offset) % 64;
+                            DicomObject item = parsedSeq.getItem(i);
+                            assertEquals(40, item.size());
+                            for (int j = 0; j < 40; j++) {
+                                assertEquals(i * 40 + j, item.getInt(0x00091000 + j).orElseGet(Assertions::fail));
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     private Object bulkData() {
         DicomObject item = new DicomObject();
         item.setBulkDataURI(Tag.WaveformData, VR.OB, BULK_DATA_URI);
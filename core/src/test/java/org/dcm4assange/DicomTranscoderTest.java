@@ -0,0 +1,61 @@
+package org.dcm4assange;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public class DicomTranscoderTest {
+
+    @Test
+    public void transcodeEVR_LEtoIVR_LE() throws IOException {
+        assertTranscode(DicomInputStreamTest.EVR_LE, DicomInputStreamTest.IVR_LE, DicomEncoding.IVR_LE);
+    }
+
+    @Test
+    public void transcodeIVR_LEtoEVR_BE() throws IOException {
+        assertTranscode(DicomInputStreamTest.IVR_LE, DicomInputStreamTest.EVR_BE, DicomEncoding.EVR_BE);
+    }
+
+    @Test
+    public void transcodeEVR_BEtoEVR_LE() throws IOException {
+        assertTranscode(DicomInputStreamTest.EVR_BE, DicomInputStreamTest.EVR_LE, DicomEncoding.EVR_LE);
+    }
+
+    @Test
+    public void transcodePixelData() throws IOException {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (DicomInputStream dis = new DicomInputStream(DicomFileStream.ivrPxData(0x100000L), 64);
+             DicomOutputStream dos = new DicomOutputStream(bout).withEncoding(DicomEncoding.EVR_BE)) {
+            assertNotNull(dis.readFileMetaInformation());
+            new DicomTranscoder(dis).transcode(dos);
+        }
+        byte[] b = bout.toByteArray();
+        assertEquals(0x100000 + 24, b.length);
+        assertEquals(Tag.PixelData, ByteOrder.BIG_ENDIAN.bytesToTag(b, 0));
+        assertEquals(VR.OW.code, ByteOrder.BIG_ENDIAN.bytesToShort(b, 4) & 0xffff);
+        assertEquals(0x100000, ByteOrder.BIG_ENDIAN.bytesToInt(b, 8));
+        assertEquals(Tag.DataSetTrailingPadding, ByteOrder.BIG_ENDIAN.bytesToTag(b, 0x100000 + 12));
+    }
+
+    private static void assertTranscode(byte[] src, byte[] expected, DicomEncoding encoding) throws IOException {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (DicomInputStream dis = new DicomInputStream(new ByteArrayInputStream(src));
+             DicomOutputStream dos = new DicomOutputStream(bout).withEncoding(encoding)) {
+            new DicomTranscoder(dis).transcode(dos);
+        }
+        DicomObject dataSet = DicomInputStreamTest.readDataset(bout.toByteArray(), encoding);
+        bout.reset();
+        try (DicomOutputStream dos = new DicomOutputStream(bout).withEncoding(encoding)) {
+            dos.writeDataSet(dataSet);
+        }
+        assertArrayEquals(expected, bout.toByteArray());
+    }
+}
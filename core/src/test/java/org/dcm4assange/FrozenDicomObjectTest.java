@@ -0,0 +1,90 @@
+package org.dcm4assange;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public class FrozenDicomObjectTest {
+
+    @Test
+    public void freezeParsedDataSet() throws IOException {
+        DicomObject dataSet;
+        try (DicomInputStream dis = new DicomInputStream(new ByteArrayInputStream(DicomInputStreamTest.EVR_BE),
+                new BlockPool(64, 1024))) {
+            dataSet = dis.withEncoding(DicomEncoding.EVR_BE).readDataSet();
+        }
+        FrozenDicomObject frozen = dataSet.freeze();
+        dataSet.release();
+        assertDataSet(frozen);
+    }
+
+    @Test
+    public void freezeCreatedDataSet() {
+        DicomObject dataSet = DicomObjectTest.createDataset();
+        FrozenDicomObject frozen = dataSet.freeze();
+        dataSet.setString(Tag.SelectorAEValue, VR.AE, "CHANGED");
+        assertDataSet(frozen);
+    }
+
+    @Test
+    public void freezeFragments() throws IOException {
+        DicomObject dataSet;
+        try (DicomInputStream dis = new DicomInputStream(DicomFileStream.encapsPxData(0x100L))) {
+            dataSet = dis.readDataSet();
+        }
+        FrozenDicomObject frozen = dataSet.freeze();
+        assertEquals(2, frozen.getNumberOfFragments(Tag.PixelData));
+        assertEquals(0, frozen.getFragment(Tag.PixelData, 0).orElseGet(Assertions::fail).length);
+        assertEquals(0x100, frozen.getFragment(Tag.PixelData, 1).orElseGet(Assertions::fail).length);
+        assertFalse(frozen.getFragment(Tag.PixelData, 2).isPresent());
+    }
+
+    private static void assertDataSet(FrozenDicomObject dcmObj) {
+        assertEquals("TEXT", dcmObj.getString(Tag.SelectorAEValue).orElseGet(Assertions::fail));
+        assertEquals("099Y", dcmObj.getString(Tag.SelectorASValue).orElseGet(Assertions::fail));
+        assertEquals(Tag.SelectorATValue, dcmObj.getInt(Tag.SelectorATValue).orElseGet(Assertions::fail));
+        assertEquals("20210403", dcmObj.getString(Tag.SelectorDAValue).orElseGet(Assertions::fail));
+        assertEquals("TEXT", dcmObj.getString(Tag.SelectorCSValue).orElseGet(Assertions::fail));
+        assertEquals("202104032321", dcmObj.getString(Tag.SelectorDTValue).orElseGet(Assertions::fail));
+        assertEquals(1, dcmObj.getInt(Tag.SelectorISValue).orElseGet(Assertions::fail));
+        assertEquals(-1, dcmObj.getInt(Tag.SelectorOBValue).orElseGet(Assertions::fail));
+        assertEquals("TEXT", dcmObj.getString(Tag.SelectorLOValue).orElseGet(Assertions::fail));
+        assertEquals(1.f, dcmObj.getFloat(Tag.SelectorOFValue).orElseGet(Assertions::fail));
+        assertEquals("TEXT", dcmObj.getString(Tag.SelectorLTValue).orElseGet(Assertions::fail));
+        assertEquals(-1, dcmObj.getInt(Tag.SelectorOWValue).orElseGet(Assertions::fail));
+        assertEquals("TEXT", dcmObj.getString(Tag.SelectorPNValue).orElseGet(Assertions::fail));
+        assertEquals("2321", dcmObj.getString(Tag.SelectorTMValue).orElseGet(Assertions::fail));
+        assertEquals("TEXT", dcmObj.getString(Tag.SelectorSHValue).orElseGet(Assertions::fail));
+        assertEquals("TEXT", dcmObj.getString(Tag.SelectorUNValue).orElseGet(Assertions::fail));
+        assertEquals("TEXT", dcmObj.getString(Tag.SelectorSTValue).orElseGet(Assertions::fail));
+        assertEquals("TEXT", dcmObj.getString(Tag.SelectorUCValue).orElseGet(Assertions::fail));
+        assertEquals("TEXT", dcmObj.getString(Tag.SelectorUTValue).orElseGet(Assertions::fail));
+        assertEquals("TEXT", dcmObj.getString(Tag.SelectorURValue).orElseGet(Assertions::fail));
+        assertEquals(1, dcmObj.getInt(Tag.SelectorDSValue).orElseGet(Assertions::fail));
+        assertEquals(1., dcmObj.getDouble(Tag.SelectorDSValue).orElseGet(Assertions::fail));
+        assertEquals(1.f, dcmObj.getFloat(Tag.SelectorDSValue).orElseGet(Assertions::fail));
+        assertEquals(1., dcmObj.getDouble(Tag.SelectorODValue).orElseGet(Assertions::fail));
+        assertEquals(1., dcmObj.getDouble(Tag.SelectorFDValue).orElseGet(Assertions::fail));
+        assertEquals(-1L, dcmObj.getLong(Tag.SelectorOLValue).orElseGet(Assertions::fail));
+        assertEquals(1.f, dcmObj.getFloat(Tag.SelectorFLValue).orElseGet(Assertions::fail));
+        assertEquals(0xffffffffL, dcmObj.getLong(Tag.SelectorULValue).orElseGet(Assertions::fail));
+        assertEquals(0xffff, dcmObj.getInt(Tag.SelectorUSValue).orElseGet(Assertions::fail));
+        assertEquals(-1L, dcmObj.getLong(Tag.SelectorSLValue).orElseGet(Assertions::fail));
+        assertEquals(-1, dcmObj.getInt(Tag.SelectorSSValue).orElseGet(Assertions::fail));
+        assertEquals(UID.Verification, dcmObj.getString(Tag.SelectorUIValue).orElseGet(Assertions::fail));
+        assertEquals(1, dcmObj.getSequence(Tag.SelectorCodeSequenceValue).orElseGet(Assertions::fail).size());
+        assertEquals(-1L, dcmObj.getLong(Tag.SelectorOVValue).orElseGet(Assertions::fail));
+        assertEquals(-1L, dcmObj.getLong(Tag.SelectorSVValue).orElseGet(Assertions::fail));
+        assertEquals(-1L, dcmObj.getLong(Tag.SelectorUVValue).orElseGet(Assertions::fail));
+        assertEquals(VR.PN, dcmObj.getVR(Tag.SelectorPNValue).orElseGet(Assertions::fail));
+        assertFalse(dcmObj.contains(Tag.PixelData));
+    }
+}
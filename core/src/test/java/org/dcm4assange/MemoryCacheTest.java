@@ -24,7 +24,7 @@ public class MemoryCacheTest {
 
     @Test
     public void fillFrom() throws IOException {
-        MemoryCache memoryCache = new MemoryCache(MemoryCache.DEFAULT_BLOCK_SIZE);
+        MemoryCache memoryCache = new HeapMemoryCache(MemoryCache.DEFAULT_BLOCK_SIZE);
         InputStream in = createInputStream(1000, 255);
         assertEquals(400, memoryCache.fillFrom(in, 400));
         assertEquals(800, memoryCache.fillFrom(in, 800));
@@ -36,4 +36,88 @@ public class MemoryCacheTest {
         assertEquals(0x0100fefdfcfbfaf9L, memoryCache.longAt(504, ByteOrder.LITTLE_ENDIAN));
         assertEquals(0xfdfe000102030405L, memoryCache.longAt(508, ByteOrder.BIG_ENDIAN));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void release() throws IOException {
+        BlockPool pool = new BlockPool(MemoryCache.DEFAULT_BLOCK_SIZE, MemoryCache.DEFAULT_BLOCK_SIZE);
+        MemoryCache memoryCache = new HeapMemoryCache(pool);
+        assertEquals(1000, memoryCache.fillFrom(createInputStream(1000, 255), 1200));
+        memoryCache.release();
+        assertEquals(MemoryCache.DEFAULT_BLOCK_SIZE, pool.pooledBytes());
+        memoryCache = new HeapMemoryCache(pool);
+        assertEquals(400, memoryCache.fillFrom(createInputStream(400, 255), 400));
+        assertEquals((short) 0xfe00, memoryCache.shortAt(254, ByteOrder.BIG_ENDIAN));
+        assertEquals(0, pool.pooledBytes());
+    }
+
+    @Test
+    public void skipFrom() throws IOException {
+        MemoryCache memoryCache = new HeapMemoryCache(MemoryCache.DEFAULT_BLOCK_SIZE);
+        InputStream in = createInputStream(20000, 251);
+        for (int pos = 0; pos < 19000; pos += 20) {
+            assertEquals(pos + 10, memoryCache.fillFrom(in, pos + 10));
+            memoryCache.skipFrom(in, pos + 10, 10, null);
+        }
+        for (int pos = 0; pos < 19000; pos += 20) {
+            assertEquals((byte) (pos % 251), memoryCache.byteAt(pos));
+            assertEquals((byte) ((pos + 9) % 251), memoryCache.byteAt(pos + 9));
+        }
+    }
+
+    @Test
+    public void discardBefore() throws IOException {
+        MemoryCache memoryCache = new HeapMemoryCache(16);
+        InputStream in = createInputStream(20000, 251);
+        for (int pos = 0; pos < 19000; pos += 20) {
+            assertEquals(pos + 10, memoryCache.fillFrom(in, pos + 10));
+            memoryCache.skipFrom(in, pos + 10, 10, null);
+            assertEquals((byte) (pos % 251), memoryCache.byteAt(pos));
+            assertEquals((byte) ((pos + 9) % 251), memoryCache.byteAt(pos + 9));
+            memoryCache.discardBefore(pos);
+        }
+    }
+
+    @Test
+    public void forEachChunk() throws IOException {
+        MemoryCache memoryCache = new HeapMemoryCache(16);
+        assertEquals(100, memoryCache.fillFrom(createInputStream(100, 256), 100));
+        int[] next = { 2 };
+        memoryCache.forEachChunk(2, 80, 4, (b, off, len) -> {
+            assertEquals(0, len % 4);
+            for (int end = off + len; off < end; off++) {
+                assertEquals((byte) next[0]++, b[off]);
+            }
+        });
+        assertEquals(82, next[0]);
+    }
+
+    @Test
+    public void crossBlockBoundaries() throws IOException {
+        MemoryCache memoryCache = new HeapMemoryCache(16);
+        InputStream in = createInputStream(1000, 256);
+        assertEquals(30, memoryCache.fillFrom(in, 30));
+        memoryCache.skipFrom(in, 30, 20, null);
+        for (int pos = 0; pos <= 22; pos++) {
+            assertCrossBlock(memoryCache, pos, pos & 0xff);
+        }
+        assertEquals(400, memoryCache.fillFrom(in, 400));
+        for (int pos = 50; pos < 390; pos++) {
+            assertCrossBlock(memoryCache, pos, pos & 0xff);
+        }
+    }
+
+    private static void assertCrossBlock(MemoryCache memoryCache, long pos, int b0) {
+        int b1 = (b0 + 1) & 0xff;
+        int b2 = (b0 + 2) & 0xff;
+        int b3 = (b0 + 3) & 0xff;
+        assertEquals(ByteOrder.LITTLE_ENDIAN.bytesToShort(b0, b1),
+                memoryCache.shortAt(pos, ByteOrder.LITTLE_ENDIAN));
+        assertEquals(ByteOrder.BIG_ENDIAN.bytesToInt(b0, b1, b2, b3),
+                memoryCache.intAt(pos, ByteOrder.BIG_ENDIAN));
+        assertEquals(ByteOrder.LITTLE_ENDIAN.bytesToTag(b0, b1, b2, b3),
+                memoryCache.tagAt(pos, ByteOrder.LITTLE_ENDIAN));
+        assertEquals(ByteOrder.BIG_ENDIAN.bytesToLong(b0, b1, b2, b3, b0 + 4 & 0xff, b0 + 5 & 0xff,
+                        b0 + 6 & 0xff, b0 + 7 & 0xff),
+                memoryCache.longAt(pos, ByteOrder.BIG_ENDIAN));
+    }
+}
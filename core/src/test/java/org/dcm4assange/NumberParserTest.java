@@ -0,0 +1,81 @@
+package org.dcm4assange;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public class NumberParserTest {
+
+    @Test
+    public void parseDouble() {
+        for (String s : new String[]{ "0", "-0", "+1.5", " -120.0 ", ".5", "1.", "0.000123", "1e5", "-2.5E-3",
+                "0.1", "123456789012345", "1234567890123456789", "1.7976931348623157e308", "4.9e-324", "1e23",
+                "0.30000000000000004", "NaN", "Infinity" }) {
+            assertEquals(Double.parseDouble(s), parseDouble(s), s);
+        }
+        Random rnd = new Random(0);
+        for (int i = 0; i < 10000; i++) {
+            String s = Double.toString((rnd.nextDouble() - 0.5) * Math.pow(10, rnd.nextInt(20) - 10));
+            assertEquals(Double.parseDouble(s), parseDouble(s), s);
+            s = String.format("%.6f", (rnd.nextDouble() - 0.5) * 1000);
+            assertEquals(Double.parseDouble(s), parseDouble(s), s);
+        }
+        for (String s : new String[]{ "", "-", ".", "1e", "e5", "1.5.5", "1,5" }) {
+            assertThrows(NumberFormatException.class, () -> parseDouble(s), s);
+        }
+    }
+
+    @Test
+    public void parseInt() {
+        for (String s : new String[]{ "0", "-0", "+12", " -120 ", "2147483647", "-2147483648" }) {
+            assertEquals(Integer.parseInt(s.trim()), parseInt(s), s);
+        }
+        for (String s : new String[]{ "", "-", "1.0", "2147483648", "12345678901234" }) {
+            assertThrows(NumberFormatException.class, () -> parseInt(s), s);
+        }
+    }
+
+    @Test
+    public void parseValues() {
+        byte[] b = "-120.5\\ 80.25 \\1e2 ".getBytes(StandardCharsets.US_ASCII);
+        double[] doubles = new double[2];
+        assertEquals(3, NumberParser.parseDoubles(b, 0, b.length, 1, doubles));
+        assertArrayEquals(new double[]{ 80.25, 100. }, doubles);
+        int[] ints = new int[3];
+        assertEquals(3, NumberParser.parseInts(b, 0, b.length, true, 0, ints));
+        assertArrayEquals(new int[]{ -120, 80, 100 }, ints);
+        assertEquals(0, NumberParser.parseDoubles(b, 0, 0, 0, doubles));
+    }
+
+    @Test
+    public void parseValueAt() {
+        byte[] b = "-120.5\\ 80.25 \\1e2 ".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(80.25, Double.longBitsToDouble(NumberParser.parseDoubleBitsAt(b, 0, b.length, 1)));
+        assertEquals(NumberParser.NO_DOUBLE_BITS, NumberParser.parseDoubleBitsAt(b, 0, b.length, 3));
+        assertEquals(NumberParser.NO_DOUBLE_BITS, NumberParser.parseDoubleBitsAt(b, 0, 0, 0));
+        assertEquals(100, NumberParser.parseDecimalIntAt(b, 0, b.length, 2));
+        assertEquals(NumberParser.NO_VALUE, NumberParser.parseDecimalIntAt(b, 0, b.length, 3));
+        byte[] is = "-0\\ 12 ".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(12, NumberParser.parseIntAt(is, 0, is.length, 1));
+        assertEquals(NumberParser.NO_VALUE, NumberParser.parseIntAt(is, 0, is.length, 2));
+        assertThrows(NumberFormatException.class, () -> NumberParser.parseIntAt(b, 0, b.length, 0));
+        assertEquals(Double.doubleToLongBits(-0.), NumberParser.parseDoubleBitsAt(is, 0, is.length, 0));
+    }
+
+    private static double parseDouble(String s) {
+        byte[] b = s.getBytes(StandardCharsets.US_ASCII);
+        return NumberParser.parseDouble(b, 0, b.length);
+    }
+
+    private static int parseInt(String s) {
+        byte[] b = s.getBytes(StandardCharsets.US_ASCII);
+        return NumberParser.parseInt(b, 0, b.length);
+    }
+}
@@ -0,0 +1,68 @@
+package org.dcm4assange;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public class SpecificCharacterSetTest {
+
+    private static final String JAPANESE_PERSON_NAME = "Yamada^Tarou=山田^太郎=やまだ^たろう";
+    private static final byte[] JAPANESE_PERSON_NAME_BYTES = {
+            'Y', 'a', 'm', 'a', 'd', 'a', '^', 'T', 'a', 'r', 'o', 'u', '=',
+            0x1b, 0x24, 0x42, 0x3b, 0x33, 0x45, 0x44, 0x1b, 0x28, 0x42, '^',
+            0x1b, 0x24, 0x42, 0x42, 0x40, 0x4f, 0x3a, 0x1b, 0x28, 0x42, '=',
+            0x1b, 0x24, 0x42, 0x24, 0x64, 0x24, 0x5e, 0x24, 0x40, 0x1b, 0x28, 0x42, '^',
+            0x1b, 0x24, 0x42, 0x24, 0x3f, 0x24, 0x6d, 0x24, 0x26, 0x1b, 0x28, 0x42 };
+
+    @Test
+    public void decodeASCII() {
+        byte[] b = " Doe^John ".getBytes(StandardCharsets.US_ASCII);
+        for (String code : new String[]{ "", "ISO_IR 100", "ISO_IR 144", "ISO_IR 13", "ISO_IR 192", "GB18030" }) {
+            assertEquals("Doe^John", SpecificCharacterSet.valueOf(code).decode(b, 1, 8), code);
+        }
+        assertEquals(" Doe^John ",
+                SpecificCharacterSet.valueOf("", "ISO 2022 IR 87").decode(b, 0, b.length));
+    }
+
+    @Test
+    public void decodeLatin1() {
+        SpecificCharacterSet cs = SpecificCharacterSet.valueOf("ISO_IR 100");
+        byte[] b = cs.encode("Buc^Jérôme", "\\^=");
+        assertArrayEquals("Buc^Jérôme".getBytes(StandardCharsets.ISO_8859_1), b);
+        assertEquals("Buc^Jérôme", cs.decode(b, 0, b.length));
+    }
+
+    @Test
+    public void decodeUTF8() {
+        SpecificCharacterSet cs = SpecificCharacterSet.valueOf("ISO_IR 192");
+        byte[] b = cs.encode(JAPANESE_PERSON_NAME, "\\^=");
+        assertArrayEquals(JAPANESE_PERSON_NAME.getBytes(StandardCharsets.UTF_8), b);
+        assertEquals(JAPANESE_PERSON_NAME, cs.decode(b, 0, b.length));
+    }
+
+    @Test
+    public void decodeISO2022() {
+        SpecificCharacterSet cs = SpecificCharacterSet.valueOf("", "ISO 2022 IR 87");
+        assertArrayEquals(JAPANESE_PERSON_NAME_BYTES, cs.encode(JAPANESE_PERSON_NAME, "\\^="));
+        assertEquals(JAPANESE_PERSON_NAME,
+                cs.decode(JAPANESE_PERSON_NAME_BYTES, 0, JAPANESE_PERSON_NAME_BYTES.length));
+        assertEquals("Yamada^Tarou", cs.decode(JAPANESE_PERSON_NAME_BYTES, 0, 12));
+    }
+
+    @Test
+    public void isByteComparable() {
+        for (String code : new String[]{ "", "ISO_IR 100", "ISO_IR 144", "ISO_IR 192" }) {
+            assertTrue(SpecificCharacterSet.valueOf(code).isByteComparable(), code);
+        }
+        for (String code : new String[]{ "ISO_IR 13", "GB18030" }) {
+            assertFalse(SpecificCharacterSet.valueOf(code).isByteComparable(), code);
+        }
+        assertFalse(SpecificCharacterSet.valueOf("", "ISO 2022 IR 87").isByteComparable());
+    }
+}
@@ -0,0 +1,89 @@
+package org.dcm4assange;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public class StringValueCacheTest {
+
+    @Test
+    public void shareValues() throws IOException {
+        StringValueCache cache = new StringValueCache(100);
+        assertEquals(128, cache.maxEntries());
+        DicomObject dcmObj1 = parse(instance("1.2.3.1"), cache);
+        DicomObject dcmObj2 = parse(instance("1.2.3.2"), cache);
+        assertSame(stringValues(dcmObj1, Tag.SOPClassUID), stringValues(dcmObj2, Tag.SOPClassUID));
+        assertSame(stringValues(dcmObj1, Tag.Modality), stringValues(dcmObj2, Tag.Modality));
+        assertSame(stringValues(dcmObj1, Tag.RetrieveAETitle), stringValues(dcmObj2, Tag.RetrieveAETitle));
+        assertSame(stringValues(seriesItem(dcmObj1), Tag.SeriesInstanceUID),
+                stringValues(seriesItem(dcmObj2), Tag.SeriesInstanceUID));
+        assertNotSame(stringValues(dcmObj1, Tag.PatientName), stringValues(dcmObj2, Tag.PatientName));
+        assertArrayEquals(new String[]{ "1.2.3.1" }, dcmObj1.getStrings(Tag.SOPInstanceUID));
+        assertArrayEquals(new String[]{ "1.2.3.2" }, dcmObj2.getStrings(Tag.SOPInstanceUID));
+        assertArrayEquals(new String[]{ "CT", "PR" }, dcmObj2.getStrings(Tag.Modality));
+        assertArrayEquals(new String[]{ "STORESCP" }, dcmObj2.getStrings(Tag.RetrieveAETitle));
+        assertEquals(6, cache.misses());
+        assertEquals(4, cache.hits());
+        cache.clear();
+        assertNotSame(stringValues(dcmObj1, Tag.SOPClassUID),
+                stringValues(parse(instance("1.2.3.3"), cache), Tag.SOPClassUID));
+    }
+
+    @Test
+    public void modifyReturnedValues() throws IOException {
+        StringValueCache cache = new StringValueCache(100);
+        DicomObject dcmObj1 = parse(instance("1.2.3.1"), cache);
+        DicomObject dcmObj2 = parse(instance("1.2.3.2"), cache);
+        dcmObj1.getStrings(Tag.SOPClassUID)[0] = "x";
+        dcmObj1.getStrings(Tag.Modality)[1] = "x";
+        assertArrayEquals(new String[]{ "1.2.840.10008.5.1.4.1.1.2" }, dcmObj1.getStrings(Tag.SOPClassUID));
+        assertArrayEquals(new String[]{ "1.2.840.10008.5.1.4.1.1.2" }, dcmObj2.getStrings(Tag.SOPClassUID));
+        assertArrayEquals(new String[]{ "CT", "PR" }, dcmObj2.getStrings(Tag.Modality));
+    }
+
+    private static DicomObject seriesItem(DicomObject dcmObj) {
+        return dcmObj.getSequence(Tag.ReferencedSeriesSequence).orElseThrow().getItem(0);
+    }
+
+    private static Object stringValues(DicomObject dcmObj, int tag) {
+        dcmObj.getStrings(tag);
+        for (int i = 0; i < dcmObj.size(); i++) {
+            if (dcmObj.tags[i] == tag)
+                return dcmObj.values[i];
+        }
+        return fail();
+    }
+
+    private static DicomObject instance(String iuid) {
+        DicomObject dcmObj = new DicomObject();
+        dcmObj.setString(Tag.SOPClassUID, VR.UI, "1.2.840.10008.5.1.4.1.1.2");
+        dcmObj.setString(Tag.SOPInstanceUID, VR.UI, iuid);
+        dcmObj.setString(Tag.RetrieveAETitle, VR.AE, "STORESCP");
+        dcmObj.setString(Tag.Modality, VR.CS, "CT", "PR");
+        dcmObj.setString(Tag.PatientName, VR.PN, "Doe^John");
+        DicomObject item = new DicomObject();
+        item.setString(Tag.SeriesInstanceUID, VR.UI, "1.2.3.4");
+        dcmObj.newSequence(Tag.ReferencedSeriesSequence).add(item);
+        return dcmObj;
+    }
+
+    private static DicomObject parse(DicomObject dcmObj, StringValueCache cache) throws IOException {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (DicomOutputStream dos = new DicomOutputStream(bout).withEncoding(DicomEncoding.EVR_LE)) {
+            dos.writeDataSet(dcmObj);
+        }
+        try (DicomInputStream dis = new DicomInputStream(new ByteArrayInputStream(bout.toByteArray()))
+                .withEncoding(DicomEncoding.EVR_LE)
+                .withStringValueCache(cache)) {
+            return dis.readDataSet();
+        }
+    }
+}
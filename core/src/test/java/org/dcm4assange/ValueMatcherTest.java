@@ -0,0 +1,53 @@
+package org.dcm4assange;
+
+import org.dcm4assange.util.StringUtils.Trim;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Gunter Zeilinger (gunterze@protonmail.com)
+ * @since Oct 2026
+ */
+public class ValueMatcherTest {
+
+    @Test
+    public void equals() {
+        assertTrue(test("B", ValueMatcher.Mode.EQUALS, " A \\ B "));
+        assertTrue(test("", ValueMatcher.Mode.EQUALS, "A\\"));
+        assertFalse(test("", ValueMatcher.Mode.EQUALS, ""));
+        assertFalse(test("A", ValueMatcher.Mode.EQUALS, "AB\\BA"));
+        assertTrue(test("1.2", ValueMatcher.Mode.EQUALS, "1.2\0"));
+    }
+
+    @Test
+    public void startsWith() {
+        assertTrue(test("AB", ValueMatcher.Mode.STARTS_WITH, "X\\ ABC"));
+        assertFalse(test("AB", ValueMatcher.Mode.STARTS_WITH, "A\\B"));
+    }
+
+    @Test
+    public void wildcard() {
+        assertTrue(test("*", ValueMatcher.Mode.WILDCARD, "ANY"));
+        assertTrue(test("A*C", ValueMatcher.Mode.WILDCARD, "ABBBC"));
+        assertTrue(test("A*B*C", ValueMatcher.Mode.WILDCARD, "AXBXBXC"));
+        assertTrue(test("?B?", ValueMatcher.Mode.WILDCARD, "X\\ABC"));
+        assertFalse(test("A*C", ValueMatcher.Mode.WILDCARD, "ABCD"));
+        assertFalse(test("??", ValueMatcher.Mode.WILDCARD, "ABC"));
+        assertTrue(test("M?ller", ValueMatcher.Mode.WILDCARD, "Müller"));
+        assertFalse(test("M??ller", ValueMatcher.Mode.WILDCARD, "Müller"));
+        assertTrue(ValueMatcher.matches(new String[]{ "X", "Müller" }, "M?l*", ValueMatcher.Mode.WILDCARD));
+    }
+
+    private static boolean test(String key, ValueMatcher.Mode mode, String value) {
+        byte[] b = (" " + value + " ").getBytes(StandardCharsets.UTF_8);
+        boolean matches = new ValueMatcher(key.getBytes(StandardCharsets.UTF_8), mode, true,
+                Trim.LEADING_AND_TRAILING, true).test(b, 1, b.length - 2);
+        assertEquals(matches,
+                ValueMatcher.matches(StringVR.ASCII.stringValues(value), key, mode),
+                "inconsistent with decoded match");
+        return matches;
+    }
+}
@@ -17,8 +17,10 @@
 
 package org.dcm4assange.tool.dcmbenchmark;
 
+import org.dcm4assange.BlockPool;
 import org.dcm4assange.DicomInputStream;
 import org.dcm4assange.DicomObject;
+import org.dcm4assange.DirectBlockPool;
 import org.dcm4assange.Tag;
 import picocli.CommandLine;
 
@@ -74,10 +76,31 @@ public class DcmBenchMark implements Callable<Integer> {
             description = "Read Pixel Data from file.")
     boolean pixelData;
 
+    @CommandLine.Option(names = "-s",
+            description = "Skip bulk data, e.g. Pixel Data fragments, instead of caching them in memory.")
+    boolean skipBulkData;
+
     @CommandLine.Option(names = "-b", paramLabel = "<bytes>",
             description = "Length of allocated byte arrays.")
     int blockSize = 8192;
 
+    @CommandLine.Option(names = "--mmap",
+            description = "Map DICOM file into memory instead of reading it into allocated byte arrays.")
+    boolean mmap;
+
+    @CommandLine.Option(names = "--pool", paramLabel = "<bytes>",
+            description = "Recycle allocated byte arrays up to specified number of bytes by releasing parsed datasets.")
+    long maxPooledBytes;
+
+    @CommandLine.Option(names = "--off-heap", paramLabel = "<bytes>",
+            description = "Cache read bytes off-heap in direct byte buffers up to specified number of bytes " +
+                    "by releasing parsed datasets.")
+    long maxDirectBytes;
+
+    @CommandLine.Option(names = "--parallel-items", paramLabel = "<no>",
+            description = "Parse items of sequences with at least specified number of items in parallel.")
+    int parallelItems;
+
     public static void main(String[] args) {
         new CommandLine(new DcmBenchMark()).execute(args);
     }
@@ -87,18 +110,39 @@ public class DcmBenchMark implements Callable<Integer> {
         System.out.println("N\tTime (ns)\tMemory (bytes)");
         Runtime rt = Runtime.getRuntime();
         List<DicomObject> list = new LinkedList<>();
-        for (int i = 1; i <= measurements; i++) {
-            long start = System.nanoTime();
-            for (int j = 0; j < samples; j++) {
-                try (DicomInputStream dis = new DicomInputStream(file, blockSize)) {
-                    list.add((pixelData ? dis : dis.stopBefore(Tag.PixelData)).readDataSet());
+        BlockPool pool = maxPooledBytes > 0 ? new BlockPool(blockSize, maxPooledBytes) : null;
+        DirectBlockPool directPool = maxDirectBytes > 0 ? new DirectBlockPool(blockSize, maxDirectBytes) : null;
+        try {
+            for (int i = 1; i <= measurements; i++) {
+                long start = System.nanoTime();
+                for (int j = 0; j < samples; j++) {
+                    try (DicomInputStream dis = mmap
+                            ? new DicomInputStream(file, true)
+                            : directPool != null
+                            ? new DicomInputStream(file, directPool)
+                            : pool != null
+                            ? new DicomInputStream(file, pool)
+                            : new DicomInputStream(file, blockSize)) {
+                        if (skipBulkData) dis.withoutBulkData();
+                        if (parallelItems > 0) dis.withParseItemsInParallel(parallelItems);
+                        list.add((pixelData ? dis : dis.stopBefore(Tag.PixelData)).readDataSet());
+                    }
+                }
+                long end = System.nanoTime();
+                if (gc) rt.gc();
+                if (!accumulate) {
+                    release(list, pool != null || directPool != null);
                 }
+                System.out.printf("%d\t%d\t%d%n", i * samples, end - start, rt.totalMemory() - rt.freeMemory());
             }
-            long end = System.nanoTime();
-            if (gc) rt.gc();
-            if (!accumulate) list.clear();
-            System.out.printf("%d\t%d\t%d%n", i * samples, end - start, rt.totalMemory() - rt.freeMemory());
+        } finally {
+            release(list, pool != null || directPool != null);
         }
         return 0;
     }
+
+    private static void release(List<DicomObject> list, boolean pooled) {
+        if (pooled) list.forEach(DicomObject::release);
+        list.clear();
+    }
 }
@@ -193,7 +193,10 @@ public class StoreSCU implements Callable<Integer> {
                 fileInfo.position = dis.streamPosition();
                 fileInfo.length -= fileInfo.position;
             } else {
-                dis.withDicomElementHandler(fileInfo::onElement).readDataSet();
+                DicomObject dataSet = dis.stopAfterAll(Tag.SOPClassUID, Tag.SOPInstanceUID).readDataSet();
+                fileInfo.sopClassUID = dataSet.getStringOrElseThrow(Tag.SOPClassUID);
+                fileInfo.sopInstanceUID = dataSet.getStringOrElseThrow(Tag.SOPInstanceUID);
+                fileInfo.transferSyntax = dis.encoding().transferSyntaxUID;
             }
             fileInfos.add(fileInfo);
         } catch (IOException e) {
@@ -209,32 +212,6 @@ public class StoreSCU implements Callable<Integer> {
         long position;
         long length;
 
-        private boolean onElement(DicomInputStream dis, DicomObject dcmobj, long header)
-                throws IOException {
-            int tag = dis.header2tag(header);
-            VR vr = VR.fromHeader(header);
-            int valueLength = dis.header2valueLength(header);
-            long valueEnd = dis.streamPosition() + (valueLength & 0xffffffffL);
-            dis.fillCache(valueEnd);
-            switch(tag) {
-                case Tag.SOPClassUID:
-                    sopClassUID = new String(dis.readNBytes(valueLength)).trim();
-                    return true;
-                case Tag.SOPInstanceUID:
-                    sopInstanceUID = new String(dis.readNBytes(valueLength)).trim();
-                    transferSyntax = dis.encoding().transferSyntaxUID;
-                    return false;
-            }
-            if (vr == VR.SQ) {
-                dis.parseItems(dcmobj.newSequence(tag), valueLength);
-            } else if (valueLength == -1) {
-                dis.parseFragments(dcmobj.newFragments(tag, header));
-            } else {
-                dis.seek(valueEnd);
-            }
-            return true;
-        }
-
         @Override
         public void writeTo(OutputStream out, String tsuid) throws IOException {
             try (InputStream in = Files.newInputStream(path)) {